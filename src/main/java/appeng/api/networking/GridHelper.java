@@ -23,6 +23,7 @@
 
 package appeng.api.networking;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -106,7 +107,7 @@ public static <T extends GridEvent, C> void addNodeOwnerEventHandler(Class<T> ev
             Class<C> nodeOwnerClass,
             BiConsumer<C, T> eventHandler) {
         addEventHandler(eventClass, (grid, event) -> {
-            for (C machine : grid.getMachines(nodeOwnerClass)) {
+            for (C machine : List.copyOf(grid.getMachines(nodeOwnerClass))) {
                 eventHandler.accept(machine, event);
             }
         });
@@ -120,7 +121,7 @@ public static <T extends GridEvent, C> void addNodeOwnerEventHandler(Class<T> ev
             Class<C> nodeOwnerClass,
             Consumer<C> eventHandler) {
         addEventHandler(eventClass, (grid, event) -> {
-            for (C machine : grid.getMachines(nodeOwnerClass)) {
+            for (C machine : List.copyOf(grid.getMachines(nodeOwnerClass))) {
                 eventHandler.accept(machine);
             }
         });
@@ -82,7 +82,8 @@ public interface IGrid {
      *
      * @param machineClass class of the machine associated with a grid node
      * @return all unique machines of specified class. if a machine is connected to the grid with multiple nodes, this
-     *         will only return the machine once.
+     *         will only return the machine once. the set is a read-only view that follows changes to the grid, so
+     *         copy it before iterating if the grid may change in the meantime.
      */
 
     <T> Set<T> getMachines(Class<T> machineClass);
@@ -92,11 +93,21 @@ public interface IGrid {
      *
      * @param machineClass class of the machine associated with a grid node
      * @return all unique machines of specified class. if a machine is connected to the grid with multiple nodes, this
-     *         will only return the machine once.
+     *         will only return the machine once. the set is a read-only view that follows changes to the grid, so
+     *         copy it before iterating if the grid may change in the meantime.
      */
 
     <T> Set<T> getActiveMachines(Class<T> machineClass);
 
+    /**
+     * Returns a counter that changes whenever machines of the given class join or leave the grid, or change whether
+     * they are active. Callers can use this to cache data derived from {@link #getMachines} or
+     * {@link #getActiveMachines}.
+     *
+     * @param machineClass class of the machine associated with a grid node
+     */
+    int getMachinesVersion(Class<?> machineClass);
+
     /**
      * @return IReadOnlyCollection for all nodes on the network, node visitors are preferred.
      */
@@ -1,7 +1,10 @@
 package appeng.api.networking;
 
+import javax.annotation.Nullable;
+
 import org.jetbrains.annotations.ApiStatus;
 
+import appeng.api.config.FuzzyMode;
 import appeng.api.networking.crafting.ICraftingWatcherNode;
 import appeng.api.networking.storage.IStorageWatcherNode;
 import appeng.api.stacks.AEKey;
@@ -31,6 +34,17 @@ public interface IStackWatcher {
      */
     void remove(AEKey stack);
 
+    /**
+     * Watch the total amount of all keys matching {@code what}, but only be notified when that total reaches or drops
+     * below {@code threshold}. The host receives the total through its regular change callback.
+     * <p/>
+     * Watchers that cannot track thresholds fall back to watching the key, or all keys for fuzzy ranges.
+     *
+     * @param what      The key to watch, or null to watch the total of all keys.
+     * @param fuzzyMode If not null, the amounts of all keys fuzzy-matching {@code what} are added up.
+     */
+    void addThreshold(@Nullable AEKey what, @Nullable FuzzyMode fuzzyMode, long threshold);
+
     /**
      * Removes all watched stacks and resets the watcher to a clean state.
      */
@@ -23,8 +23,11 @@
 
 package appeng.api.networking.storage;
 
+import appeng.api.config.Actionable;
 import appeng.api.networking.IGridNode;
 import appeng.api.networking.IGridService;
+import appeng.api.networking.security.IActionSource;
+import appeng.api.stacks.AEKey;
 import appeng.api.stacks.AEKeyType;
 import appeng.api.stacks.KeyCounter;
 import appeng.api.storage.IStorageProvider;
@@ -51,6 +54,17 @@ public interface IStorageService extends IGridService {
      */
     KeyCounter getCachedInventory();
 
+    /**
+     * Simulates inserting into the {@link #getInventory() network inventory}. The result may be remembered until the
+     * end of the tick, or until the network content or its mounted storage changes. This is meant for machines that
+     * repeatedly check whether the network has room for something, like import buses.
+     *
+     * @return The amount that would be inserted.
+     */
+    default long simulateInsert(AEKey what, long amount, IActionSource source) {
+        return getInventory().insert(what, amount, Actionable.SIMULATE, source);
+    }
+
     /**
      * Adds a {@link IStorageProvider} that is not associated with a specific {@link appeng.api.networking.IGridNode }.
      * This is for adding storage provided by {@link IGridService}s for examples.
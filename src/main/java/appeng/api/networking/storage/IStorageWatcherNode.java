@@ -42,7 +42,9 @@ public interface IStorageWatcherNode extends IGridNodeService {
     void updateWatcher(IStackWatcher newWatcher);
 
     /**
-     * Called when a watched item changes amounts.
+     * Called when a watched item changes amounts. For thresholds registered through
+     * {@link IStackWatcher#addThreshold}, this is called when the threshold is crossed, with the registered key (null
+     * when watching all keys) and the new total amount.
      * 
      * @param what   What has changed
      * @param amount New amount in the network
@@ -107,6 +107,16 @@ <T extends IPart> T replacePart(IPartItem<T> partItem, @Nullable Direction side,
      */
     void markForUpdate();
 
+    /**
+     * Like {@link #markForUpdate()}, but only the client state of the part on the given side changed, which allows the
+     * host to only send that part's state to clients.
+     *
+     * @param side side of the part, or null for the center
+     */
+    default void markPartForUpdate(@Nullable Direction side) {
+        markForUpdate();
+    }
+
     /**
      * @return the physical location of the part host in the universe.
      */
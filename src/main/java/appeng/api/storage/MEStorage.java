@@ -27,6 +27,7 @@
 
 import com.google.common.base.Preconditions;
 
+import net.fabricmc.fabric.api.util.TriState;
 import net.minecraft.network.chat.Component;
 import net.minecraft.world.item.ItemStack;
 
@@ -59,6 +60,17 @@ default boolean isPreferredStorageFor(AEKey what, IActionSource source) {
         return false;
     }
 
+    /**
+     * Returns whether this inventory currently contains some amount of the given key, if that can be answered without
+     * significant cost, i.e. from an in-memory map of the contents. Unlike a simulated extraction, this must not query
+     * external inventories.
+     *
+     * @return {@link TriState#DEFAULT} if the answer isn't readily available.
+     */
+    default TriState contains(AEKey what) {
+        return TriState.DEFAULT;
+    }
+
     /**
      * Store new items, or simulate the addition of new items into the ME Inventory.
      *
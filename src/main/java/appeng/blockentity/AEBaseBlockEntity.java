@@ -67,6 +67,7 @@
 import appeng.client.render.model.AEModelData;
 import appeng.core.AELog;
 import appeng.hooks.VisualStateSaving;
+import appeng.hooks.ticking.CallablePriority;
 import appeng.hooks.ticking.TickHandler;
 import appeng.items.tools.MemoryCardItem;
 import appeng.util.CustomNameUtil;
@@ -85,9 +86,17 @@ protected void onChunkUnloaded() {
     }
 
     private static final Map<BlockEntityType<?>, Item> REPRESENTATIVE_ITEMS = new HashMap<>();
+    /**
+     * Section mask requesting that the entire client state is synchronized.
+     */
+    protected static final long ALL_SECTIONS = -1L;
     @Nullable
     private Component customName;
-    private boolean setChangedQueued = false;
+    /**
+     * Sections of the client state that changed since the last update packet, see {@link #markSectionsForUpdate}.
+     */
+    private long dirtySections;
+    private boolean updateQueued;
     /**
      * For diagnosing issues with the delayed block entity initialization, this tracks how often this BE has been queued
      * for defered initializiation using {@link appeng.api.networking.GridHelper#onFirstTick}.
@@ -137,6 +146,16 @@ public final void load(CompoundTag tag) {
             }
             return;
         }
+        // Data update that only contains the changed sections
+        if (tag.contains("#dlt", Tag.TAG_BYTE_ARRAY) && tag.size() == 1) {
+            var updateData = tag.getByteArray("#dlt");
+            if (readDeltaUpdateData(new FriendlyByteBuf(Unpooled.wrappedBuffer(updateData)))) {
+                if (level != null) {
+                    level.sendBlockUpdated(getBlockPos(), getBlockState(), getBlockState(), 0);
+                }
+            }
+            return;
+        }
 
         // Load visual client-side data (used by PonderJS)
         if (tag.contains("visual", Tag.TAG_COMPOUND)) {
@@ -232,9 +251,39 @@ private boolean readUpdateData(FriendlyByteBuf stream) {
         return output;
     }
 
+    private boolean readDeltaUpdateData(FriendlyByteBuf stream) {
+        boolean output = false;
+
+        try {
+            var sections = stream.readVarLong();
+            output = this.readDeltaFromStream(stream, sections);
+        } catch (Throwable t) {
+            AELog.warn(t);
+        }
+
+        return output;
+    }
+
     @Override
     public Packet<ClientGamePacketListener> getUpdatePacket() {
-        return ClientboundBlockEntityDataPacket.create(this);
+        var sections = this.dirtySections;
+        this.dirtySections = 0;
+        if (sections == 0 || sections == ALL_SECTIONS) {
+            return ClientboundBlockEntityDataPacket.create(this);
+        }
+
+        // Clients that start tracking this block entity later receive the full state through getUpdateTag, so it's
+        // enough to send the sections that changed to the clients that are already tracking it.
+        return ClientboundBlockEntityDataPacket.create(this, be -> {
+            var stream = new FriendlyByteBuf(Unpooled.buffer());
+            stream.writeVarLong(sections);
+            writeDeltaToStream(stream, sections);
+
+            var data = new CompoundTag();
+            stream.capacity(stream.readableBytes());
+            data.putByteArray("#dlt", stream.array());
+            return data;
+        });
     }
 
     protected boolean readFromStream(FriendlyByteBuf data) {
@@ -244,6 +293,23 @@ protected boolean readFromStream(FriendlyByteBuf data) {
     protected void writeToStream(FriendlyByteBuf data) {
     }
 
+    /**
+     * Writes the client state of the given sections. Only called for block entities that use
+     * {@link #markSectionsForUpdate}. By default, the full client state is written.
+     */
+    protected void writeDeltaToStream(FriendlyByteBuf data, long sections) {
+        writeToStream(data);
+    }
+
+    /**
+     * Reads the client state written by {@link #writeDeltaToStream}. By default, the full client state is read.
+     *
+     * @return True if the block needs to be re-rendered.
+     */
+    protected boolean readDeltaFromStream(FriendlyByteBuf data, long sections) {
+        return readFromStream(data);
+    }
+
     /**
      * Used to store the state that is synchronized to clients for the visual appearance of this part as NBT. This is
      * only used to store this state for tools such as Create Ponders in Structure NBT. Actual synchronization uses
@@ -263,8 +329,44 @@ protected void saveVisualState(CompoundTag data) {
     protected void loadVisualState(CompoundTag data) {
     }
 
+    /**
+     * Requests that the entire client state is synchronized. On the server, all requests made during a tick are
+     * combined into a single update at the end of the tick.
+     */
     public void markForUpdate() {
-        // TODO: Optimize Network Load
+        markSectionsForUpdate(ALL_SECTIONS);
+    }
+
+    /**
+     * Requests that only the given sections of the client state are synchronized. The meaning of the bits is up to the
+     * block entity, which should override {@link #writeDeltaToStream} and {@link #readDeltaFromStream} for them.
+     */
+    protected void markSectionsForUpdate(long sections) {
+        if (this.level == null) {
+            return;
+        }
+
+        if (this.level.isClientSide()) {
+            sendUpdate();
+            return;
+        }
+
+        this.dirtySections |= sections;
+        if (!this.updateQueued) {
+            this.updateQueued = true;
+            TickHandler.instance().addPendingUpdate(this);
+        }
+    }
+
+    /**
+     * Sends the update queued by {@link #markSectionsForUpdate}.
+     */
+    public void sendPendingUpdate() {
+        this.updateQueued = false;
+        sendUpdate();
+    }
+
+    private void sendUpdate() {
         if (this.level != null && !this.isRemoved() && !notLoaded()) {
 
             boolean alreadyUpdated = false;
@@ -383,17 +485,12 @@ public void saveChanges() {
             this.setChanged();
         } else {
             this.level.blockEntityChanged(this.worldPosition);
-            if (!this.setChangedQueued) {
-                TickHandler.instance().addCallable(null, this::setChangedAtEndOfTick);
-                this.setChangedQueued = true;
-            }
+            TickHandler.instance().addUniqueCallable(null, this, CallablePriority.LOW, this::setChangedAtEndOfTick);
         }
     }
 
-    private Object setChangedAtEndOfTick(Level level) {
+    private void setChangedAtEndOfTick(Level level) {
         this.setChanged();
-        this.setChangedQueued = false;
-        return null;
     }
 
     public void setName(String name) {
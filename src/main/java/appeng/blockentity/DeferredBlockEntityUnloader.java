@@ -24,6 +24,7 @@
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
 
+import appeng.hooks.ticking.CallablePriority;
 import appeng.hooks.ticking.TickHandler;
 import appeng.util.ILevelRunnable;
 
@@ -46,7 +47,8 @@ public static void register() {
                 }
             }
             if (entitiesToRemove != null) {
-                TickHandler.instance().addCallable(serverWorld, new DeferredBlockEntityUnloader(entitiesToRemove));
+                TickHandler.instance().addCallable(serverWorld, CallablePriority.HIGH,
+                        new DeferredBlockEntityUnloader(entitiesToRemove));
             }
         });
     }
@@ -42,6 +42,7 @@
 import appeng.api.networking.IGridNode;
 import appeng.api.networking.IGridNodeListener;
 import appeng.api.orientation.BlockOrientation;
+import appeng.api.stacks.KeyCounter;
 import appeng.api.util.IConfigManager;
 import appeng.api.util.IConfigurableObject;
 import appeng.block.crafting.AbstractCraftingUnitBlock;
@@ -219,7 +220,8 @@ public void onMainNodeStateChanged(IGridNodeListener.State reason) {
     public void breakCluster() {
         if (this.cluster != null) {
             this.cluster.cancel();
-            var inv = this.cluster.craftingLogic.getInventory();
+            var inv = new KeyCounter();
+            this.cluster.craftingLogic.getInventory().addTo(inv);
 
             // Drop stacks
             var places = new ArrayList<BlockPos>();
@@ -243,7 +245,7 @@ public void breakCluster() {
                         this.cluster + " does not contain any kind of blocks, which were destroyed.");
             }
 
-            for (var entry : inv.list) {
+            for (var entry : inv) {
                 var position = places.get(Platform.getRandomInt() % places.size());
                 var stacks = new ArrayList<ItemStack>();
                 entry.getKey().addDrops(entry.getLongValue(), stacks, this.level, position);
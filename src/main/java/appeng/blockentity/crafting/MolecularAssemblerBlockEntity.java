@@ -18,6 +18,8 @@
 
 package appeng.blockentity.crafting;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import javax.annotation.Nullable;
@@ -27,6 +29,8 @@
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
@@ -59,6 +63,7 @@
 import appeng.api.util.AECableType;
 import appeng.blockentity.grid.AENetworkInvBlockEntity;
 import appeng.client.render.crafting.AssemblerAnimationStatus;
+import appeng.core.AEConfig;
 import appeng.core.AELog;
 import appeng.core.AppEng;
 import appeng.core.definitions.AEBlocks;
@@ -89,6 +94,11 @@ public class MolecularAssemblerBlockEntity extends AENetworkInvBlockEntity
     private final InternalInventory gridInvExt = new FilteredInternalInventory(this.gridInv, new CraftingGridFilter());
     private final InternalInventory internalInv = new CombinedInternalInventory(this.gridInv, this.patternInv);
     private final IUpgradeInventory upgrades;
+    /**
+     * Additional input sets pushed for the current plan while the grid was occupied, crafted in order once the grid is
+     * free again.
+     */
+    private final List<ItemStack[]> batchedInputs = new ArrayList<>();
     private boolean isPowered = false;
     private Direction pushDirection = null;
     private ItemStack myPattern = ItemStack.EMPTY;
@@ -146,7 +156,7 @@ public PatternContainerGroup getCraftingMachineInfo() {
     public boolean pushPattern(IPatternDetails patternDetails, KeyCounter[] table,
             Direction where) {
         if (this.myPattern.isEmpty()) {
-            boolean isEmpty = this.gridInv.isEmpty() && this.patternInv.isEmpty();
+            boolean isEmpty = this.gridInv.isEmpty() && this.patternInv.isEmpty() && this.batchedInputs.isEmpty();
 
             // Only accept our own crafting patterns!
             if (isEmpty && patternDetails instanceof IMolecularAssemblerSupportedPattern pattern) {
@@ -156,7 +166,16 @@ public boolean pushPattern(IPatternDetails patternDetails, KeyCounter[] table,
                 this.myPlan = pattern;
                 this.pushDirection = where;
 
-                this.fillGrid(table, pattern);
+                this.fillGrid(table, pattern, this.gridInv::setItemDirect);
+
+                this.updateSleepiness();
+                this.saveChanges();
+                return true;
+            } else if (canBatch(patternDetails)) {
+                var inputs = new ItemStack[9];
+                Arrays.fill(inputs, ItemStack.EMPTY);
+                this.fillGrid(table, this.myPlan, (slot, stack) -> inputs[slot] = stack);
+                this.batchedInputs.add(inputs);
 
                 this.updateSleepiness();
                 this.saveChanges();
@@ -166,8 +185,18 @@ public boolean pushPattern(IPatternDetails patternDetails, KeyCounter[] table,
         return false;
     }
 
-    private void fillGrid(KeyCounter[] table, IMolecularAssemblerSupportedPattern adapter) {
-        adapter.fillCraftingGrid(table, this.gridInv::setItemDirect);
+    /**
+     * Additional input sets are only accepted for the plan that was pushed to this assembler, and only up to the
+     * configured batch size.
+     */
+    private boolean canBatch(IPatternDetails patternDetails) {
+        return this.forcePlan && this.myPlan != null && this.myPlan.equals(patternDetails)
+                && 1 + this.batchedInputs.size() < AEConfig.instance().getMolecularAssemblerMaxBatchSize();
+    }
+
+    private void fillGrid(KeyCounter[] table, IMolecularAssemblerSupportedPattern adapter,
+            IMolecularAssemblerSupportedPattern.CraftingGridAccessor gridAccessor) {
+        adapter.fillCraftingGrid(table, gridAccessor);
 
         // Sanity check
         for (var list : table) {
@@ -201,13 +230,29 @@ private boolean hasMats() {
             return false;
         }
 
-        for (int x = 0; x < this.craftingInv.getContainerSize(); x++) {
-            this.craftingInv.setItem(x, this.gridInv.getStackInSlot(x));
+        if (this.isGridEmpty() && !this.batchedInputs.isEmpty()) {
+            var inputs = this.batchedInputs.get(0);
+            for (int x = 0; x < this.craftingInv.getContainerSize(); x++) {
+                this.craftingInv.setItem(x, inputs[x]);
+            }
+        } else {
+            for (int x = 0; x < this.craftingInv.getContainerSize(); x++) {
+                this.craftingInv.setItem(x, this.gridInv.getStackInSlot(x));
+            }
         }
 
         return !this.myPlan.assemble(this.craftingInv, this.getLevel()).isEmpty();
     }
 
+    private boolean isGridEmpty() {
+        for (int x = 0; x < 9; x++) {
+            if (!this.gridInv.getStackInSlot(x).isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public boolean acceptsPlans() {
         return this.patternInv.isEmpty();
@@ -241,6 +286,20 @@ public void saveAdditional(CompoundTag data) {
             }
         }
 
+        if (!this.batchedInputs.isEmpty()) {
+            var batches = new ListTag();
+            for (var inputs : this.batchedInputs) {
+                var batch = new CompoundTag();
+                for (int x = 0; x < inputs.length; x++) {
+                    if (!inputs[x].isEmpty()) {
+                        batch.put("item" + x, inputs[x].save(new CompoundTag()));
+                    }
+                }
+                batches.add(batch);
+            }
+            data.put("batchedInputs", batches);
+        }
+
         this.upgrades.writeToNBT(data, "upgrades");
     }
 
@@ -252,6 +311,7 @@ public void loadTag(CompoundTag data) {
         this.forcePlan = false;
         this.myPattern = ItemStack.EMPTY;
         this.myPlan = null;
+        this.batchedInputs.clear();
 
         if (data.contains("myPlan")) {
             var pattern = ItemStack.of(data.getCompound("myPlan"));
@@ -262,6 +322,16 @@ public void loadTag(CompoundTag data) {
             }
         }
 
+        var batches = data.getList("batchedInputs", Tag.TAG_COMPOUND);
+        for (int i = 0; i < batches.size(); i++) {
+            var batch = batches.getCompound(i);
+            var inputs = new ItemStack[9];
+            for (int x = 0; x < inputs.length; x++) {
+                inputs[x] = ItemStack.of(batch.getCompound("item" + x));
+            }
+            this.batchedInputs.add(inputs);
+        }
+
         this.upgrades.readFromNBT(data, "upgrades");
         this.recalculatePlan();
     }
@@ -362,6 +432,17 @@ public int getCraftingProgress() {
     public void addAdditionalDrops(Level level, BlockPos pos, List<ItemStack> drops, boolean remove) {
         super.addAdditionalDrops(level, pos, drops, remove);
 
+        for (var inputs : this.batchedInputs) {
+            for (var input : inputs) {
+                if (!input.isEmpty()) {
+                    drops.add(input);
+                }
+            }
+        }
+        if (remove) {
+            this.batchedInputs.clear();
+        }
+
         for (var upgrade : upgrades) {
             drops.add(upgrade);
         }
@@ -408,16 +489,40 @@ public TickRateModulation tickingRequest(IGridNode node, int ticksSinceLastCall)
 
         this.reboot = false;
         int speed = 10;
+        double acceleratorTax = 1.0;
         switch (this.upgrades.getInstalledUpgrades(AEItems.SPEED_CARD)) {
-            case 0 -> this.progress += this.userPower(ticksSinceLastCall, speed = 10, 1.0);
-            case 1 -> this.progress += this.userPower(ticksSinceLastCall, speed = 13, 1.3);
-            case 2 -> this.progress += this.userPower(ticksSinceLastCall, speed = 17, 1.7);
-            case 3 -> this.progress += this.userPower(ticksSinceLastCall, speed = 20, 2.0);
-            case 4 -> this.progress += this.userPower(ticksSinceLastCall, speed = 25, 2.5);
-            case 5 -> this.progress += this.userPower(ticksSinceLastCall, speed = 50, 5.0);
+            case 1 -> {
+                speed = 13;
+                acceleratorTax = 1.3;
+            }
+            case 2 -> {
+                speed = 17;
+                acceleratorTax = 1.7;
+            }
+            case 3 -> {
+                speed = 20;
+                acceleratorTax = 2.0;
+            }
+            case 4 -> {
+                speed = 25;
+                acceleratorTax = 2.5;
+            }
+            case 5 -> {
+                speed = 50;
+                acceleratorTax = 5.0;
+            }
         }
+        this.progress += this.userPower(ticksSinceLastCall, speed, acceleratorTax);
 
         if (this.progress >= 100) {
+            // Batched input sets are only moved into the grid once they are crafted
+            if (this.isGridEmpty() && !this.batchedInputs.isEmpty()) {
+                var inputs = this.batchedInputs.remove(0);
+                for (int x = 0; x < inputs.length; x++) {
+                    this.gridInv.setItemDirect(x, inputs[x]);
+                }
+            }
+
             for (int x = 0; x < this.craftingInv.getContainerSize(); x++) {
                 this.craftingInv.setItem(x, this.gridInv.getStackInSlot(x));
             }
@@ -430,13 +535,21 @@ public TickRateModulation tickingRequest(IGridNode node, int ticksSinceLastCall)
                 // pushOut might reset the plan back to null, so get the remaining items before
                 var craftingRemainders = this.myPlan.getRemainingItems(this.craftingInv);
 
-                this.pushOut(output.copy());
-
                 for (int x = 0; x < this.craftingInv.getContainerSize(); x++) {
                     this.gridInv.setItemDirect(x, craftingRemainders.get(x));
                 }
 
-                if (this.patternInv.isEmpty()) {
+                // Complete batched crafts along with this one while they stack onto the output
+                var craftedOutput = output.copy();
+                while (!this.batchedInputs.isEmpty() && this.isGridEmpty()) {
+                    if (!this.craftBatchedInputs(craftedOutput, acceleratorTax)) {
+                        break;
+                    }
+                }
+
+                this.pushOut(craftedOutput);
+
+                if (this.patternInv.isEmpty() && this.batchedInputs.isEmpty()) {
                     this.forcePlan = false;
                     this.myPlan = null;
                     this.pushDirection = null;
@@ -463,12 +576,53 @@ public TickRateModulation tickingRequest(IGridNode node, int ticksSinceLastCall)
         return TickRateModulation.FASTER;
     }
 
+    /**
+     * Crafts the next batched input set, adding its result to the given output. The crafting remainders are put into
+     * the grid.
+     *
+     * @return false if the result doesn't stack onto the output, or there is not enough power.
+     */
+    private boolean craftBatchedInputs(ItemStack output, double acceleratorTax) {
+        var inputs = this.batchedInputs.get(0);
+        for (int x = 0; x < this.craftingInv.getContainerSize(); x++) {
+            this.craftingInv.setItem(x, inputs[x]);
+        }
+
+        var result = this.myPlan.assemble(this.craftingInv, this.getLevel());
+        if (result.isEmpty() || !ItemStack.isSameItemSameTags(output, result)
+                || output.getCount() + result.getCount() > output.getMaxStackSize()) {
+            return false;
+        }
+
+        // Charge the same energy as a separate craft would have used
+        var grid = getMainNode().getGrid();
+        if (grid == null) {
+            return false;
+        }
+        var energy = grid.getEnergyService();
+        var power = 100 * acceleratorTax;
+        if (energy.extractAEPower(power, Actionable.SIMULATE, PowerMultiplier.CONFIG) < power - 0.01) {
+            return false;
+        }
+        energy.extractAEPower(power, Actionable.MODULATE, PowerMultiplier.CONFIG);
+
+        this.batchedInputs.remove(0);
+        CraftingEvent.fireAutoCraftingEvent(getLevel(), this.myPlan, result, this.craftingInv);
+        var craftingRemainders = this.myPlan.getRemainingItems(this.craftingInv);
+        for (int x = 0; x < this.craftingInv.getContainerSize(); x++) {
+            this.gridInv.setItemDirect(x, craftingRemainders.get(x));
+        }
+        output.grow(result.getCount());
+        return true;
+    }
+
     private void ejectHeldItems() {
         if (this.gridInv.getStackInSlot(9).isEmpty()) {
             for (int x = 0; x < 9; x++) {
                 final ItemStack is = this.gridInv.getStackInSlot(x);
-                if (!is.isEmpty()
-                        && (this.myPlan == null || !this.myPlan.isItemValid(x, AEItemKey.of(is), this.level))) {
+                // While batched crafts are pending, anything left in the grid is a remainder of a completed craft
+                if (!is.isEmpty() && (this.myPlan == null || !this.batchedInputs.isEmpty()
+                        || !this.myPlan.isItemValid(x, AEItemKey.of(is), this.level))) {
                     this.gridInv.setItemDirect(9, is);
                     this.gridInv.setItemDirect(x, ItemStack.EMPTY);
                     this.saveChanges();
@@ -497,7 +651,7 @@ private void pushOut(ItemStack output) {
             output = this.pushTo(output, this.pushDirection);
         }
 
-        if (output.isEmpty() && this.forcePlan) {
+        if (output.isEmpty() && this.forcePlan && this.batchedInputs.isEmpty()) {
             this.forcePlan = false;
             this.recalculatePlan();
         }
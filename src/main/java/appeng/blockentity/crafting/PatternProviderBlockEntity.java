@@ -195,5 +195,6 @@ public ItemStack getMainMenuIcon() {
     public void setBlockState(BlockState state) {
         super.setBlockState(state);
         onGridConnectableSidesChanged();
+        logic.invalidateTargetCache();
     }
 }
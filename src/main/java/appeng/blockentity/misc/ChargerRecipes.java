@@ -2,20 +2,25 @@
 
 import javax.annotation.Nullable;
 
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
 
+import appeng.recipes.RecipeIndex;
 import appeng.recipes.handlers.ChargerRecipe;
 
 public class ChargerRecipes {
 
+    private static final RecipeIndex<ChargerRecipe, Item> BY_INPUT = new RecipeIndex<>(ChargerRecipe.TYPE,
+            recipe -> RecipeIndex.itemKeys(recipe.ingredient));
+
     public static Iterable<ChargerRecipe> getRecipes(Level level) {
-        return level.getRecipeManager().byType(ChargerRecipe.TYPE).values();
+        return BY_INPUT.getAll(level);
     }
 
     @Nullable
     public static ChargerRecipe findRecipe(Level level, ItemStack input) {
-        for (ChargerRecipe recipe : getRecipes(level)) {
+        for (ChargerRecipe recipe : BY_INPUT.get(level, input.getItem())) {
             if (recipe.ingredient.test(input)) {
                 return recipe;
             }
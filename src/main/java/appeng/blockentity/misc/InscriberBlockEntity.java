@@ -537,29 +537,7 @@ public boolean allowInsert(InternalInventory inv, int slot, ItemStack stack) {
             if (inv == topItemHandler)
                 top = stack;
 
-            for (var recipe : InscriberRecipes.getRecipes(getLevel())) {
-                if (!middle.isEmpty() && !recipe.getMiddleInput().test(middle)) {
-                    continue;
-                }
-
-                if (bot.isEmpty() && top.isEmpty()) {
-                    return true;
-                } else if (bot.isEmpty()) {
-                    if (recipe.getTopOptional().test(top) || recipe.getBottomOptional().test(top)) {
-                        return true;
-                    }
-                } else if (top.isEmpty()) {
-                    if (recipe.getBottomOptional().test(bot) || recipe.getTopOptional().test(bot)) {
-                        return true;
-                    }
-                } else {
-                    if ((recipe.getTopOptional().test(top) && recipe.getBottomOptional().test(bot))
-                            || (recipe.getBottomOptional().test(top) && recipe.getTopOptional().test(bot))) {
-                        return true;
-                    }
-                }
-            }
-            return false;
+            return InscriberRecipes.isValidInputCombination(getLevel(), middle, top, bot);
         }
     }
 
@@ -23,6 +23,7 @@
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.Ingredient;
 import net.minecraft.world.level.Level;
@@ -30,6 +31,7 @@
 import appeng.core.AppEng;
 import appeng.core.definitions.AEItems;
 import appeng.items.materials.NamePressItem;
+import appeng.recipes.RecipeIndex;
 import appeng.recipes.handlers.InscriberProcessType;
 import appeng.recipes.handlers.InscriberRecipe;
 
@@ -41,6 +43,11 @@ public final class InscriberRecipes {
 
     public static final ResourceLocation NAMEPLATE_RECIPE_ID = new ResourceLocation(AppEng.MOD_ID, "nameplate");
 
+    private static final RecipeIndex<InscriberRecipe, Item> BY_MIDDLE_INPUT = new RecipeIndex<>(
+            InscriberRecipe.TYPE, recipe -> RecipeIndex.itemKeys(recipe.getMiddleInput()));
+    private static final RecipeIndex<InscriberRecipe, Item> BY_OPTIONAL_INPUT = new RecipeIndex<>(
+            InscriberRecipe.TYPE, recipe -> RecipeIndex.itemKeys(recipe.getTopOptional(), recipe.getBottomOptional()));
+
     private InscriberRecipes() {
     }
 
@@ -48,7 +55,14 @@ private InscriberRecipes() {
      * Returns an unmodifiable view of all registered inscriber recipes.
      */
     public static Iterable<InscriberRecipe> getRecipes(Level level) {
-        return level.getRecipeManager().byType(InscriberRecipe.TYPE).values();
+        return BY_MIDDLE_INPUT.getAll(level);
+    }
+
+    /**
+     * Returns the recipes that may use the given stack as a top or bottom press.
+     */
+    private static Iterable<InscriberRecipe> getRecipesForOptional(Level level, ItemStack press) {
+        return press.isEmpty() ? getRecipes(level) : BY_OPTIONAL_INPUT.get(level, press.getItem());
     }
 
     @Nullable
@@ -65,7 +79,7 @@ public static InscriberRecipe findRecipe(Level level, ItemStack input, ItemStack
             }
         }
 
-        for (InscriberRecipe recipe : getRecipes(level)) {
+        for (InscriberRecipe recipe : BY_MIDDLE_INPUT.get(level, input.getItem())) {
             // The recipe can be flipped at will
             final boolean matchA = recipe.getTopOptional().test(plateA) && recipe.getBottomOptional().test(plateB);
             final boolean matchB = recipe.getTopOptional().test(plateB) && recipe.getBottomOptional().test(plateA);
@@ -107,12 +121,51 @@ private static InscriberRecipe makeNamePressRecipe(ItemStack input, ItemStack pl
                 plateB.isEmpty() ? Ingredient.EMPTY : Ingredient.of(plateB), type);
     }
 
+    /**
+     * Checks if there is an inscriber recipe that could be completed from the given inputs. Empty stacks are treated as
+     * not yet inserted, and top and bottom can be used interchangeably because the inscriber will flip the recipe if
+     * needed.
+     */
+    public static boolean isValidInputCombination(Level level, ItemStack middle, ItemStack top, ItemStack bottom) {
+        Iterable<InscriberRecipe> candidates;
+        if (!middle.isEmpty()) {
+            candidates = BY_MIDDLE_INPUT.get(level, middle.getItem());
+        } else {
+            candidates = getRecipesForOptional(level, top.isEmpty() ? bottom : top);
+        }
+
+        for (var recipe : candidates) {
+            if (!middle.isEmpty() && !recipe.getMiddleInput().test(middle)) {
+                continue;
+            }
+
+            if (bottom.isEmpty() && top.isEmpty()) {
+                return true;
+            } else if (bottom.isEmpty()) {
+                if (recipe.getTopOptional().test(top) || recipe.getBottomOptional().test(top)) {
+                    return true;
+                }
+            } else if (top.isEmpty()) {
+                if (recipe.getBottomOptional().test(bottom) || recipe.getTopOptional().test(bottom)) {
+                    return true;
+                }
+            } else {
+                if ((recipe.getTopOptional().test(top) && recipe.getBottomOptional().test(bottom))
+                        || (recipe.getBottomOptional().test(top) && recipe.getTopOptional().test(bottom))) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
     /**
      * Checks if there is an inscriber recipe that supports the given combination of top/bottom presses. Both the given
      * combination and the reverse will be searched.
      */
     public static boolean isValidOptionalIngredientCombination(Level level, ItemStack pressA, ItemStack pressB) {
-        for (InscriberRecipe recipe : getRecipes(level)) {
+        for (InscriberRecipe recipe : getRecipesForOptional(level, pressA.isEmpty() ? pressB : pressA)) {
             if (recipe.getTopOptional().test(pressA) && recipe.getBottomOptional().test(pressB)
                     || recipe.getTopOptional().test(pressB) && recipe.getBottomOptional().test(pressA)) {
                 return true;
@@ -127,7 +180,7 @@ public static boolean isValidOptionalIngredientCombination(Level level, ItemStac
      * top can be used interchangeably here, because the inscriber will flip the recipe if needed.
      */
     public static boolean isValidOptionalIngredient(Level level, ItemStack is) {
-        for (InscriberRecipe recipe : getRecipes(level)) {
+        for (InscriberRecipe recipe : getRecipesForOptional(level, is)) {
             if (recipe.getTopOptional().test(is) || recipe.getBottomOptional().test(is)) {
                 return true;
             }
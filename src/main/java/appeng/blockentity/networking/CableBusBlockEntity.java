@@ -100,6 +100,26 @@ protected void writeToStream(FriendlyByteBuf data) {
         this.getCableBus().writeToStream(data);
     }
 
+    @Override
+    protected void writeDeltaToStream(FriendlyByteBuf data, long sections) {
+        this.getCableBus().writeDeltaToStream(data, sections);
+    }
+
+    @Override
+    protected boolean readDeltaFromStream(FriendlyByteBuf data, long sections) {
+        boolean ret = this.getCableBus().readDeltaFromStream(data, sections);
+
+        final int newLV = this.getCableBus().getLightValue();
+        if (newLV != this.oldLV) {
+            this.oldLV = newLV;
+            this.level.getLightEngine().checkBlock(this.worldPosition);
+            ret = true;
+        }
+
+        this.updateBlockEntitySettings();
+        return ret;
+    }
+
     /**
      * Changes this block entity to the TESR version if any of the parts require dynamic rendering.
      */
@@ -146,13 +166,28 @@ public void markForUpdate() {
             return;
         }
 
+        updateLightValue();
+
+        super.markForUpdate();
+    }
+
+    @Override
+    public void markPartForUpdate(@Nullable Direction side) {
+        if (this.level == null) {
+            return;
+        }
+
+        updateLightValue();
+
+        markSectionsForUpdate(CableBusContainer.getPartSection(side));
+    }
+
+    private void updateLightValue() {
         final int newLV = this.getCableBus().getLightValue();
         if (newLV != this.oldLV) {
             this.oldLV = newLV;
             this.level.getLightEngine().checkBlock(this.worldPosition);
         }
-
-        super.markForUpdate();
     }
 
     @Override
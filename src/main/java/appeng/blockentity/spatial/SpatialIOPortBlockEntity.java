@@ -37,6 +37,7 @@
 import appeng.api.networking.events.GridSpatialEvent;
 import appeng.api.util.AECableType;
 import appeng.blockentity.grid.AENetworkInvBlockEntity;
+import appeng.hooks.ticking.CallablePriority;
 import appeng.hooks.ticking.TickHandler;
 import appeng.util.ILevelRunnable;
 import appeng.util.inv.AppEngInternalInventory;
@@ -127,7 +128,7 @@ private void triggerTransition() {
             final ItemStack cell = this.inv.getStackInSlot(0);
             if (this.isSpatialCell(cell)) {
                 // this needs to be cross world synced.
-                TickHandler.instance().addCallable(null, transitionCallback);
+                TickHandler.instance().addCallable(null, CallablePriority.HIGH, transitionCallback);
             }
         }
     }
@@ -19,6 +19,7 @@
 package appeng.client.gui.me.crafting;
 
 import java.text.NumberFormat;
+import java.util.List;
 
 import com.mojang.blaze3d.vertex.PoseStack;
 
@@ -35,6 +36,7 @@
 import appeng.core.localization.GuiText;
 import appeng.menu.me.crafting.CraftConfirmMenu;
 import appeng.menu.me.crafting.CraftingPlanSummary;
+import appeng.menu.me.crafting.CraftingPlanSummaryEntry;
 
 /**
  * This screen shows the computed crafting plan and allows the player to select a CPU on which it should be scheduled
@@ -42,6 +44,8 @@
  */
 public class CraftConfirmScreen extends AEBaseScreen<CraftConfirmMenu> {
 
+    private static final int VISIBLE_ENTRIES = AbstractTableRenderer.ROWS * AbstractTableRenderer.COLS;
+
     private final CraftConfirmTableRenderer table;
 
     private final Button start;
@@ -102,8 +106,34 @@ protected void updateBeforeRender() {
         setTextContent(TEXT_ID_DIALOG_TITLE, GuiText.CraftingPlan.text(planDetails));
         setTextContent("cpu_status", cpuDetails);
 
-        final int size = plan != null ? plan.getEntries().size() : 0;
+        final int size = plan != null ? plan.getEntryCount() : 0;
         scrollbar.setRange(0, AbstractTableRenderer.getScrollableRows(size), 1);
+
+        if (plan != null) {
+            requestVisiblePlanPage(plan);
+        }
+    }
+
+    /**
+     * The client only receives a page of the plan's entries. Request a new page centered on the visible entries if
+     * they were scrolled outside the received page.
+     */
+    private void requestVisiblePlanPage(CraftingPlanSummary plan) {
+        var firstVisible = getFirstVisibleEntry();
+        var endVisible = Math.min(plan.getEntryCount(), firstVisible + VISIBLE_ENTRIES);
+        var endLoaded = plan.getFirstEntry() + plan.getEntries().size();
+        if (firstVisible >= plan.getFirstEntry() && endVisible <= endLoaded) {
+            return;
+        }
+
+        var firstEntry = Math.max(0, firstVisible - (CraftConfirmMenu.PLAN_PAGE_SIZE - VISIBLE_ENTRIES) / 2);
+        if (firstEntry != menu.getRequestedFirstEntry()) {
+            menu.requestPlanPage(firstEntry);
+        }
+    }
+
+    private int getFirstVisibleEntry() {
+        return scrollbar.getCurrentScroll() * AbstractTableRenderer.COLS;
     }
 
     private Component getNextCpuButtonLabel() {
@@ -127,7 +157,14 @@ public void drawFG(PoseStack poseStack, int offsetX, int offsetY, int mouseX,
 
         CraftingPlanSummary plan = menu.getPlan();
         if (plan != null) {
-            this.table.render(poseStack, mouseX, mouseY, plan.getEntries(), scrollbar.getCurrentScroll());
+            // Until a page containing the visible entries has been received, only show what we already have
+            var entries = plan.getEntries();
+            var from = getFirstVisibleEntry() - plan.getFirstEntry();
+            List<CraftingPlanSummaryEntry> visibleEntries = List.of();
+            if (from >= 0 && from < entries.size()) {
+                visibleEntries = entries.subList(from, Math.min(entries.size(), from + VISIBLE_ENTRIES));
+            }
+            this.table.render(poseStack, mouseX, mouseY, visibleEntries, 0);
         }
 
     }
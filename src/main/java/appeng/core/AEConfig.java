@@ -122,6 +122,8 @@ private static void makeBackupAndReset(Path configFolder, String configFile) {
     private boolean isEnableFacadesInJEI;
     private boolean isEnableFacadeRecipesInJEI;
     private int craftingCalculationTimePerTick;
+    private boolean craftingCalculationAdaptive;
+    private int craftingCalculationMaxTimePerTick;
     private boolean craftingSimulatedExtraction;
     private boolean spatialAnchorEnablesRandomTicks;
 
@@ -191,6 +193,8 @@ private void syncCommonConfig() {
         this.spatialPowerExponent = COMMON.spatialPowerExponent.get();
 
         this.craftingCalculationTimePerTick = COMMON.craftingCalculationTimePerTick.get();
+        this.craftingCalculationAdaptive = COMMON.craftingCalculationAdaptive.get();
+        this.craftingCalculationMaxTimePerTick = COMMON.craftingCalculationMaxTimePerTick.get();
         this.craftingSimulatedExtraction = COMMON.craftingSimulatedExtraction.get();
         this.spatialAnchorEnablesRandomTicks = COMMON.spatialAnchorEnableRandomTicks.get();
 
@@ -307,6 +311,10 @@ public int getFormationPlaneEntityLimit() {
         return this.formationPlaneEntityLimit;
     }
 
+    public boolean isImportBusMultipleKeys() {
+        return COMMON.importBusMultipleKeys.get();
+    }
+
     public boolean isEnableEffects() {
         return this.enableEffects;
     }
@@ -335,6 +343,14 @@ public int getCraftingCalculationTimePerTick() {
         return this.craftingCalculationTimePerTick;
     }
 
+    public boolean isCraftingCalculationAdaptive() {
+        return this.craftingCalculationAdaptive;
+    }
+
+    public int getCraftingCalculationMaxTimePerTick() {
+        return this.craftingCalculationMaxTimePerTick;
+    }
+
     public boolean isCraftingSimulatedExtraction() {
         return this.craftingSimulatedExtraction;
     }
@@ -407,6 +423,14 @@ public int getGrowthAcceleratorSpeed() {
         return COMMON.growthAcceleratorSpeed.get();
     }
 
+    public int getCraftingCalculationThreads() {
+        return COMMON.craftingCalculationThreads.get();
+    }
+
+    public int getMolecularAssemblerMaxBatchSize() {
+        return COMMON.molecularAssemblerMaxBatchSize.get();
+    }
+
     public boolean isSecurityAuditLogEnabled() {
         return COMMON.securityAuditLog.get();
     }
@@ -607,8 +631,12 @@ private static class CommonConfig {
 
         // Misc
         public final IntegerOption formationPlaneEntityLimit;
+        public final BooleanOption importBusMultipleKeys;
         public final IntegerOption craftingCalculationTimePerTick;
+        public final BooleanOption craftingCalculationAdaptive;
+        public final IntegerOption craftingCalculationMaxTimePerTick;
         public final BooleanOption craftingSimulatedExtraction;
+        public final IntegerOption craftingCalculationThreads;
         public final BooleanOption allowBlockEntityFacades;
         public final BooleanOption debugTools;
         public final BooleanOption matterCannonBlockDamage;
@@ -620,6 +648,7 @@ private static class CommonConfig {
 
         public final BooleanOption disassemblyCrafting;
         public final IntegerOption growthAcceleratorSpeed;
+        public final IntegerOption molecularAssemblerMaxBatchSize;
 
         // Spatial IO/Dimension
         public final DoubleOption spatialPowerExponent;
@@ -694,6 +723,8 @@ public CommonConfig(ConfigSection root) {
 
             ConfigSection automation = root.subsection("automation");
             formationPlaneEntityLimit = automation.addInt("formationPlaneEntityLimit", 128);
+            importBusMultipleKeys = automation.addBoolean("importBusMultipleKeys", false,
+                    "When true: import buses import different items or fluids in the same operation until their transfer amount is used up, and continue where they left off in the adjacent inventory on their next operation.");
 
             ConfigSection facades = root.subsection("facades");
             allowBlockEntityFacades = facades.addBoolean("allowBlockEntities", false,
@@ -701,14 +732,22 @@ public CommonConfig(ConfigSection root) {
 
             ConfigSection craftingCPU = root.subsection("craftingCPU");
             this.craftingCalculationTimePerTick = craftingCPU.addInt("craftingCalculationTimePerTick", 5);
+            this.craftingCalculationAdaptive = craftingCPU.addBoolean("craftingCalculationAdaptive", false,
+                    "When true: the time per tick spent on crafting calculations adapts to the time left in the server tick, between 1 ms and craftingCalculationMaxTimePerTick. Requests made by players get a larger share of the time than automated requests.");
+            this.craftingCalculationMaxTimePerTick = craftingCPU.addInt("craftingCalculationMaxTimePerTick", 20, 1,
+                    45, "The maximum time in milliseconds per tick spent on crafting calculations in adaptive mode.");
             this.craftingSimulatedExtraction = craftingCPU.addBoolean("craftingSimulatedExtraction", false,
                     "When true: simulate extraction of all the network's contents when starting a crafting job calculation. When false: use the cached available content list (same as terminals). Enabling might work a bit better, but it will significantly reduce performance.");
+            this.craftingCalculationThreads = craftingCPU.addInt("craftingCalculationThreads", 4, 1, 64,
+                    "The maximum number of crafting calculations that run at the same time. Further calculations are queued, taking turns between networks. Requires a restart.");
 
             var crafting = root.subsection("crafting");
             disassemblyCrafting = crafting.addBoolean("disassemblyCrafting", true,
                     "Enable shift-clicking with the crafting units in hand to disassemble them.");
             growthAcceleratorSpeed = crafting.addInt("growthAccelerator", 10, 1, 100,
                     "Number of ticks between two crystal growth accelerator ticks");
+            molecularAssemblerMaxBatchSize = crafting.addInt("molecularAssemblerMaxBatchSize", 1, 1, 64,
+                    "The number of input sets for the same pattern a molecular assembler accepts from a pattern provider at once. Batched sets are crafted together when the previous craft completes, at the same energy cost per craft.");
 
             ConfigSection spatialio = root.subsection("spatialio");
             this.spatialPowerMultiplier = spatialio.addDouble("spatialPowerMultiplier", 1250.0);
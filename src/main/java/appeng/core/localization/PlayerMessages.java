@@ -66,6 +66,16 @@ public enum PlayerMessages implements LocalizationEnum {
     TestWorldNotInSuperflatVoid("A test world can only be set up in a Superflat world with the Void preset!"),
     TestWorldSetupComplete("Test world setup completed in %s"),
     TestWorldSetupFailed("Setting up the test world failed: %s"),
+    GridProfilerStarted("Grid profiler started"),
+    GridProfilerStopped("Grid profiler stopped"),
+    GridProfilerNotRunning("Grid profiler is not running, use /ae2 profile start"),
+    GridProfilerNoSamples("No grid samples recorded"),
+    GridProfilerGrid("%s: %s ms/t, %s inserts/t, %s extracts/t, %s terminal bytes/t"),
+    GridProfilerService("service %s: %s ms/t"),
+    GridProfilerMachine("machine %s: %s ms/t"),
+    GridProfilerCrafting("crafting calculations: %s ms/t"),
+    GridProfileWritten("Grid profile written to %s"),
+    GridProfileWriteFailed("Failed to write grid profile: %s"),
     CompassTestSection("Section [y=%d-%d] %d: %b"),
     isNowLocked("Monitor is now Locked."),
     isNowUnlocked("Monitor is now Unlocked."),
@@ -52,6 +52,13 @@ protected final void configureWrite(FriendlyByteBuf data) {
         this.p = data;
     }
 
+    /**
+     * @return The size of the serialized packet in bytes.
+     */
+    public int getPayloadSize() {
+        return this.p.readableBytes();
+    }
+
     public FriendlyByteBuf getPayload() {
         var buffer = this.p;
         var packetSize = buffer.readableBytes();
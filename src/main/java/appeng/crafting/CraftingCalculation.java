@@ -41,10 +41,12 @@
 import appeng.crafting.inv.CraftingSimulationState;
 import appeng.crafting.inv.NetworkCraftingSimulationState;
 import appeng.hooks.ticking.TickHandler;
+import appeng.me.profiling.GridProfiler;
 
 public class CraftingCalculation {
     private final NetworkCraftingSimulationState networkInv;
     private final Level level;
+    private final IGrid grid;
     private final KeyCounter missing = new KeyCounter();
     private final Object monitor = new Object();
     private final Stopwatch watch = Stopwatch.createUnstarted();
@@ -64,6 +66,7 @@ public class CraftingCalculation {
     public CraftingCalculation(Level level, IGrid grid, ICraftingSimulationRequester simRequester,
             GenericStack output, CalculationStrategy strategy) {
         this.level = level;
+        this.grid = grid;
         this.output = output.what();
         this.requestedAmount = output.amount();
         this.strategy = strategy;
@@ -229,6 +232,8 @@ Level getLevel() {
      */
     public boolean simulateFor(int micros) {
         this.time = micros;
+        var profiling = GridProfiler.isEnabled();
+        var start = profiling ? System.nanoTime() : 0;
 
         synchronized (this.monitor) {
             if (this.done) {
@@ -253,6 +258,10 @@ public boolean simulateFor(int micros) {
             AELog.craftingDebug("main thread is now active");
         }
 
+        if (profiling) {
+            GridProfiler.recordCraftingCalculation(grid, System.nanoTime() - start);
+        }
+
         return true;
     }
 
@@ -286,6 +295,14 @@ private void logCraftingJob(ICraftingPlan plan) {
         }
     }
 
+    /**
+     * @return True if a player requested this calculation, as opposed to an automated request from a machine.
+     */
+    public boolean isInteractive() {
+        var actionSource = this.simRequester.getActionSource();
+        return actionSource != null && actionSource.player().isPresent();
+    }
+
     public boolean hasMultiplePaths() {
         return this.tree.hasMultiplePaths();
     }
@@ -35,8 +35,10 @@
 import appeng.api.networking.security.IActionSource;
 import appeng.api.stacks.GenericStack;
 import appeng.api.stacks.KeyCounter;
+import appeng.api.storage.MEStorage;
 import appeng.crafting.inv.ICraftingInventory;
-import appeng.crafting.inv.ListCraftingInventory;
+import appeng.crafting.inv.IndexedCraftingInventory;
+import appeng.me.storage.NetworkStorage;
 
 /**
  * Helper functions used by the CPU.
@@ -48,8 +50,37 @@ public class CraftingCpuHelper {
      */
     @Nullable
     public static GenericStack tryExtractInitialItems(ICraftingPlan plan, IGrid grid,
-            ListCraftingInventory cpuInventory, IActionSource src) {
-        var storage = grid.getStorageService().getInventory();
+            IndexedCraftingInventory cpuInventory, IActionSource src) {
+        var storageService = grid.getStorageService();
+        var storage = storageService.getInventory();
+
+        // Fail fast if the network did not have enough of an ingredient when its cached inventory was last updated,
+        // before touching any storage.
+        var cachedInventory = storageService.getCachedInventory();
+        for (var entry : plan.usedItems()) {
+            var available = cachedInventory.get(entry.getKey());
+            if (available < entry.getLongValue()) {
+                return new GenericStack(entry.getKey(), entry.getLongValue() - available);
+            }
+        }
+
+        if (storage instanceof NetworkStorage networkStorage) {
+            // Extract everything in one pass over the mounts of the network
+            var extracted = new KeyCounter();
+            networkStorage.extractAll(plan.usedItems(), src, extracted);
+            for (var entry : extracted) {
+                cpuInventory.insert(entry.getKey(), entry.getLongValue(), Actionable.MODULATE);
+            }
+
+            for (var entry : plan.usedItems()) {
+                var missing = entry.getLongValue() - extracted.get(entry.getKey());
+                if (missing > 0) {
+                    reinjectAll(storage, cpuInventory, src);
+                    return new GenericStack(entry.getKey(), missing);
+                }
+            }
+            return null;
+        }
 
         for (var entry : plan.usedItems()) {
             var what = entry.getKey();
@@ -58,13 +89,7 @@ public static GenericStack tryExtractInitialItems(ICraftingPlan plan, IGrid grid
             cpuInventory.insert(what, extracted, Actionable.MODULATE);
 
             if (extracted < toExtract) {
-                // Failed to extract everything, reinject and hope for the best.
-                // TODO: maybe voiding items that fail to re-insert is not the best thing to do?
-                for (var stored : cpuInventory.list) {
-                    storage.insert(stored.getKey(), stored.getLongValue(), Actionable.MODULATE, src);
-                }
-                cpuInventory.clear();
-
+                reinjectAll(storage, cpuInventory, src);
                 return new GenericStack(what, toExtract - extracted);
             }
         }
@@ -72,6 +97,17 @@ public static GenericStack tryExtractInitialItems(ICraftingPlan plan, IGrid grid
         return null;
     }
 
+    private static void reinjectAll(MEStorage storage, IndexedCraftingInventory cpuInventory, IActionSource src) {
+        // Failed to extract everything, reinject and hope for the best.
+        // TODO: maybe voiding items that fail to re-insert is not the best thing to do?
+        var stored = new KeyCounter();
+        cpuInventory.addTo(stored);
+        for (var stack : stored) {
+            storage.insert(stack.getKey(), stack.getLongValue(), Actionable.MODULATE, src);
+        }
+        cpuInventory.clear();
+    }
+
     public static CompoundTag generateLinkData(UUID craftId, boolean standalone, boolean req) {
         final CompoundTag tag = new CompoundTag();
 
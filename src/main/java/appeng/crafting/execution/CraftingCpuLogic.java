@@ -32,6 +32,7 @@
 
 import appeng.api.config.Actionable;
 import appeng.api.config.PowerMultiplier;
+import appeng.api.crafting.IPatternDetails;
 import appeng.api.features.IPlayerRegistry;
 import appeng.api.networking.IGrid;
 import appeng.api.networking.crafting.ICraftingLink;
@@ -47,7 +48,7 @@
 import appeng.core.sync.network.NetworkHandler;
 import appeng.core.sync.packets.CraftingJobStatusPacket;
 import appeng.crafting.CraftingLink;
-import appeng.crafting.inv.ListCraftingInventory;
+import appeng.crafting.inv.IndexedCraftingInventory;
 import appeng.me.cluster.implementations.CraftingCPUCluster;
 import appeng.me.service.CraftingService;
 
@@ -63,12 +64,16 @@ public class CraftingCpuLogic {
     /**
      * Inventory.
      */
-    private final ListCraftingInventory inventory = new ListCraftingInventory(CraftingCpuLogic.this::postChange);
+    private final IndexedCraftingInventory inventory = new IndexedCraftingInventory(CraftingCpuLogic.this::postChange);
     /**
      * Used crafting operations over the last 3 ticks.
      */
     private final int[] usedOps = new int[3];
     private final Set<Consumer<AEKey>> listeners = new HashSet<>();
+    /**
+     * Keys that changed since the listeners were last notified. Listeners are only notified once per tick.
+     */
+    private final Set<AEKey> pendingChanges = new HashSet<>();
     /**
      * True if the CPU is currently trying to clear its inventory but is not able to.
      */
@@ -90,9 +95,11 @@ public ICraftingSubmitResult trySubmitJob(IGrid grid, ICraftingPlan plan, IActio
         if (cluster.getAvailableStorage() < plan.bytes())
             return CraftingSubmitResult.CPU_TOO_SMALL;
 
-        if (!inventory.list.isEmpty())
+        if (!inventory.isEmpty())
             AELog.warn("Crafting CPU inventory is not empty yet a job was submitted.");
 
+        indexInventory(plan.usedItems().keySet(), plan.emittedItems().keySet(), plan.patternTimes().keySet());
+
         // Try to extract required items.
         var missingIngredient = CraftingCpuHelper.tryExtractInitialItems(plan, grid, inventory, src);
         if (missingIngredient != null)
@@ -127,6 +134,11 @@ public ICraftingSubmitResult trySubmitJob(IGrid grid, ICraftingPlan plan, IActio
     }
 
     public void tickCraftingLogic(IEnergyService eg, CraftingService cc) {
+        tickJob(eg, cc);
+        flushChanges();
+    }
+
+    private void tickJob(IEnergyService eg, CraftingService cc) {
         // Don't tick if we're not active.
         if (!cluster.isActive())
             return;
@@ -134,7 +146,7 @@ public void tickCraftingLogic(IEnergyService eg, CraftingService cc) {
         // If we don't have a job, just try to dump our items.
         if (this.job == null) {
             this.storeItems();
-            if (!this.inventory.list.isEmpty()) {
+            if (!this.inventory.isEmpty()) {
                 cantStoreItems = true;
             }
             return;
@@ -359,7 +371,7 @@ public void cancel() {
     public void storeItems() {
         Preconditions.checkState(job == null, "CPU should not have a job to prevent re-insertion when dumping items");
         // Short-circuit if there is nothing to do.
-        if (this.inventory.list.isEmpty())
+        if (this.inventory.isEmpty())
             return;
 
         var g = cluster.getGrid();
@@ -368,25 +380,53 @@ public void storeItems() {
 
         var storage = g.getStorageService().getInventory();
 
-        for (var entry : this.inventory.list) {
-            this.postChange(entry.getKey());
+        var stored = new KeyCounter();
+        this.inventory.addTo(stored);
+        for (var entry : stored) {
             var inserted = storage.insert(entry.getKey(), entry.getLongValue(),
                     Actionable.MODULATE, cluster.getSrc());
 
-            // The network was unable to receive all of the items, i.e. no or not enough storage space left
-            entry.setValue(entry.getLongValue() - inserted);
+            // The network may have been unable to receive all of the items, i.e. no or not enough storage space left
+            this.inventory.extract(entry.getKey(), inserted, Actionable.MODULATE);
         }
-        this.inventory.list.removeZeros();
 
         cluster.markDirty();
     }
 
     private void postChange(AEKey what) {
-        for (var listener : listeners) {
-            listener.accept(what);
+        if (!listeners.isEmpty()) {
+            pendingChanges.add(what);
         }
     }
 
+    private void flushChanges() {
+        if (pendingChanges.isEmpty()) {
+            return;
+        }
+
+        for (var what : pendingChanges) {
+            for (var listener : listeners) {
+                listener.accept(what);
+            }
+        }
+        pendingChanges.clear();
+    }
+
+    /**
+     * Assigns dense inventory slots to all keys that the CPU may store while crafting a job: the initial ingredients,
+     * and everything that is emitted or crafted.
+     */
+    private void indexInventory(Set<AEKey> usedItems, Set<AEKey> emittedItems, Set<IPatternDetails> patterns) {
+        var keys = new HashSet<AEKey>(usedItems);
+        keys.addAll(emittedItems);
+        for (var pattern : patterns) {
+            for (var output : pattern.getOutputs()) {
+                keys.add(output.what());
+            }
+        }
+        this.inventory.index(keys);
+    }
+
     public boolean hasJob() {
         return this.job != null;
     }
@@ -408,6 +448,9 @@ public void readFromNBT(CompoundTag data) {
         this.inventory.readFromNBT(data.getList("inventory", 10));
         if (data.contains("job")) {
             this.job = new ExecutingCraftingJob(data.getCompound("job"), this::postChange, this);
+            var stored = new KeyCounter();
+            this.inventory.addTo(stored);
+            indexInventory(stored.keySet(), job.waitingFor.list.keySet(), job.tasks.keySet());
             cluster.updateOutput(new GenericStack(job.finalOutput.what(), job.remainingAmount));
         } else {
             cluster.updateOutput(null);
@@ -428,7 +471,7 @@ public ICraftingLink getLastLink() {
         return null;
     }
 
-    public ListCraftingInventory getInventory() {
+    public IndexedCraftingInventory getInventory() {
         return this.inventory;
     }
 
@@ -442,6 +485,9 @@ public void addListener(Consumer<AEKey> listener) {
 
     public void removeListener(Consumer<AEKey> listener) {
         listeners.remove(listener);
+        if (listeners.isEmpty()) {
+            pendingChanges.clear();
+        }
     }
 
     public long getStored(AEKey template) {
@@ -481,7 +527,7 @@ public long getPendingOutputs(AEKey template) {
      * Used by the menu to gather all the kinds of stored items.
      */
     public void getAllItems(KeyCounter out) {
-        out.addAll(this.inventory.list);
+        this.inventory.addTo(out);
         if (this.job != null) {
             out.addAll(job.waitingFor.list);
             for (var t : job.tasks.entrySet()) {
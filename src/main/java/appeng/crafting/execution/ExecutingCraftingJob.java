@@ -18,7 +18,10 @@
 
 package appeng.crafting.execution;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 
 import org.jetbrains.annotations.Nullable;
@@ -48,6 +51,9 @@ public class ExecutingCraftingJob {
     private static final String NBT_REMAINING_AMOUNT = "remainingAmount";
     private static final String NBT_TASKS = "tasks";
     private static final String NBT_CRAFTING_PROGRESS = "#craftingProgress";
+    private static final String NBT_PLAN = "plan";
+    private static final String NBT_PLAN_PATTERNS = "patterns";
+    private static final String NBT_TASK_PROGRESS = "taskProgress";
 
     final CraftingLink link;
     final ListCraftingInventory waitingFor;
@@ -57,6 +63,16 @@ public class ExecutingCraftingJob {
     long remainingAmount;
     @Nullable
     Integer playerId;
+    /**
+     * The patterns of this job in the order in which they are saved in {@link #planTag}. The progress of the tasks is
+     * saved in the same order. Contains null for patterns that could not be decoded when loading.
+     */
+    private final List<IPatternDetails> planPatterns;
+    /**
+     * The part of the saved job that does not change while it is crafting. It is only serialized once and then shared
+     * by every save of the job, so it must not be modified.
+     */
+    private final CompoundTag planTag;
 
     @FunctionalInterface
     interface CraftingDifferenceListener {
@@ -84,6 +100,8 @@ interface CraftingDifferenceListener {
         this.timeTracker = new ElapsedTimeTracker(totalPending);
         this.link = link;
         this.playerId = playerId;
+        this.planPatterns = new ArrayList<>(tasks.keySet());
+        this.planTag = createPlanTag();
     }
 
     ExecutingCraftingJob(CompoundTag data, CraftingDifferenceListener postCraftingDifference, CraftingCpuLogic cpu) {
@@ -93,54 +111,101 @@ interface CraftingDifferenceListener {
             ((CraftingService) grid.getCraftingService()).addLink(link);
         }
 
-        this.finalOutput = GenericStack.readTag(data.getCompound(NBT_FINAL_OUTPUT));
         this.remainingAmount = data.getLong(NBT_REMAINING_AMOUNT);
         this.waitingFor = new ListCraftingInventory(postCraftingDifference::onCraftingDifference);
         this.waitingFor.readFromNBT(data.getList(NBT_WAITING_FOR, Tag.TAG_COMPOUND));
         this.timeTracker = new ElapsedTimeTracker(data.getCompound(NBT_TIME_TRACKER));
+        this.planPatterns = new ArrayList<>();
+
+        if (data.contains(NBT_PLAN, Tag.TAG_COMPOUND)) {
+            this.planTag = data.getCompound(NBT_PLAN);
+            readPlan(planTag);
+
+            var patternsTag = planTag.getList(NBT_PLAN_PATTERNS, Tag.TAG_COMPOUND);
+            var progress = data.getLongArray(NBT_TASK_PROGRESS);
+            var level = cpu.cluster.getLevel();
+            var decoded = new HashSet<IPatternDetails>();
+            for (int i = 0; i < patternsTag.size(); ++i) {
+                var details = PatternDetailsHelper.decodePattern(AEItemKey.fromTag(patternsTag.getCompound(i)), level);
+                // Keep the index of every pattern, so that the progress stays aligned when saving again
+                if (details != null && decoded.add(details)) {
+                    planPatterns.add(details);
+                    if (i < progress.length && progress[i] > 0) {
+                        var tp = new TaskProgress();
+                        tp.value = progress[i];
+                        this.tasks.put(details, tp);
+                    }
+                } else {
+                    planPatterns.add(null);
+                }
+            }
+        } else {
+            // Jobs saved before the plan was saved separately from the progress
+            readPlan(data);
+
+            ListTag tasksTag = data.getList(NBT_TASKS, Tag.TAG_COMPOUND);
+            for (int i = 0; i < tasksTag.size(); ++i) {
+                final CompoundTag item = tasksTag.getCompound(i);
+                var pattern = AEItemKey.fromTag(item);
+                var details = PatternDetailsHelper.decodePattern(pattern, cpu.cluster.getLevel());
+                if (details != null) {
+                    final TaskProgress tp = new TaskProgress();
+                    tp.value = item.getLong(NBT_CRAFTING_PROGRESS);
+                    this.tasks.put(details, tp);
+                }
+            }
+            this.planPatterns.addAll(tasks.keySet());
+            this.planTag = createPlanTag();
+        }
+    }
+
+    private void readPlan(CompoundTag data) {
+        this.finalOutput = GenericStack.readTag(data.getCompound(NBT_FINAL_OUTPUT));
         if (data.contains(NBT_PLAYER_ID, Tag.TAG_INT)) {
             this.playerId = data.getInt(NBT_PLAYER_ID);
         } else {
             this.playerId = null;
         }
+    }
 
-        ListTag tasksTag = data.getList(NBT_TASKS, Tag.TAG_COMPOUND);
-        for (int i = 0; i < tasksTag.size(); ++i) {
-            final CompoundTag item = tasksTag.getCompound(i);
-            var pattern = AEItemKey.fromTag(item);
-            var details = PatternDetailsHelper.decodePattern(pattern, cpu.cluster.getLevel());
-            if (details != null) {
-                final TaskProgress tp = new TaskProgress();
-                tp.value = item.getLong(NBT_CRAFTING_PROGRESS);
-                this.tasks.put(details, tp);
-            }
+    private CompoundTag createPlanTag() {
+        CompoundTag data = new CompoundTag();
+        data.put(NBT_FINAL_OUTPUT, GenericStack.writeTag(finalOutput));
+        if (this.playerId != null) {
+            data.putInt(NBT_PLAYER_ID, this.playerId);
+        }
+
+        final ListTag list = new ListTag();
+        for (var pattern : planPatterns) {
+            list.add(pattern.getDefinition().toTag());
         }
+        data.put(NBT_PLAN_PATTERNS, list);
+        return data;
     }
 
+    /**
+     * Only the progress of the job is serialized here, the plan is written once when the job is created.
+     */
     CompoundTag writeToNBT() {
         CompoundTag data = new CompoundTag();
+        data.put(NBT_PLAN, planTag);
 
         CompoundTag linkData = new CompoundTag();
         link.writeToNBT(linkData);
         data.put(NBT_LINK, linkData);
 
-        data.put(NBT_FINAL_OUTPUT, GenericStack.writeTag(finalOutput));
-
         data.put(NBT_WAITING_FOR, waitingFor.writeToNBT());
         data.put(NBT_TIME_TRACKER, timeTracker.writeToNBT());
 
-        final ListTag list = new ListTag();
-        for (var e : this.tasks.entrySet()) {
-            var item = e.getKey().getDefinition().toTag();
-            item.putLong(NBT_CRAFTING_PROGRESS, e.getValue().value);
-            list.add(item);
+        var progress = new long[planPatterns.size()];
+        for (int i = 0; i < progress.length; i++) {
+            var pattern = planPatterns.get(i);
+            var task = pattern != null ? tasks.get(pattern) : null;
+            progress[i] = task != null ? task.value : 0;
         }
-        data.put(NBT_TASKS, list);
+        data.putLongArray(NBT_TASK_PROGRESS, progress);
 
         data.putLong(NBT_REMAINING_AMOUNT, remainingAmount);
-        if (this.playerId != null) {
-            data.putInt(NBT_PLAYER_ID, this.playerId);
-        }
 
         return data;
     }
@@ -0,0 +1,236 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2023, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.crafting.inv;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.minecraft.nbt.ListTag;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+
+import appeng.api.config.Actionable;
+import appeng.api.config.FuzzyMode;
+import appeng.api.stacks.AEKey;
+import appeng.api.stacks.KeyCounter;
+
+/**
+ * The inventory of a crafting CPU. The keys a job will store are known when it is submitted, and are mapped to dense
+ * slots by {@link #index}, which turns the many inserts and extracts over the lifetime of a job into array operations.
+ * Keys that were not indexed are stored in an overflow {@link KeyCounter}.
+ */
+public class IndexedCraftingInventory implements ICraftingInventory {
+    private static final AEKey[] NO_KEYS = new AEKey[0];
+    private static final long[] NO_AMOUNTS = new long[0];
+
+    private final ListCraftingInventory.ChangeListener listener;
+    private final Object2IntOpenHashMap<AEKey> slots = new Object2IntOpenHashMap<>();
+    /**
+     * Slots of all indexed keys grouped by their primary key, used for fuzzy lookups.
+     */
+    private final Map<Object, IntArrayList> slotsByPrimaryKey = new HashMap<>();
+    private AEKey[] keys = NO_KEYS;
+    private long[] amounts = NO_AMOUNTS;
+    private final KeyCounter overflow = new KeyCounter();
+
+    public IndexedCraftingInventory(ListCraftingInventory.ChangeListener listener) {
+        this.listener = listener;
+        this.slots.defaultReturnValue(-1);
+    }
+
+    /**
+     * Assigns a slot to each of the given keys. Current content is retained.
+     */
+    public void index(Iterable<AEKey> indexedKeys) {
+        var content = new KeyCounter();
+        addTo(content);
+
+        slots.clear();
+        slotsByPrimaryKey.clear();
+        overflow.clear();
+        var newKeys = new ArrayList<AEKey>();
+        for (var key : indexedKeys) {
+            if (!slots.containsKey(key)) {
+                slots.put(key, newKeys.size());
+                slotsByPrimaryKey.computeIfAbsent(key.getPrimaryKey(), k -> new IntArrayList()).add(newKeys.size());
+                newKeys.add(key);
+            }
+        }
+        this.keys = newKeys.toArray(NO_KEYS);
+        this.amounts = new long[this.keys.length];
+
+        for (var entry : content) {
+            set(entry.getKey(), entry.getLongValue());
+        }
+    }
+
+    @Override
+    public void insert(AEKey what, long amount, Actionable mode) {
+        if (mode == Actionable.MODULATE) {
+            var slot = slots.getInt(what);
+            if (slot >= 0) {
+                amounts[slot] += amount;
+            } else {
+                overflow.add(what, amount);
+            }
+            listener.onChange(what);
+        }
+    }
+
+    @Override
+    public long extract(AEKey what, long amount, Actionable mode) {
+        var slot = slots.getInt(what);
+        if (slot >= 0) {
+            var extracted = Math.min(amounts[slot], amount);
+            if (mode == Actionable.MODULATE) {
+                amounts[slot] -= extracted;
+                listener.onChange(what);
+            }
+            return extracted;
+        }
+
+        var extracted = Math.min(overflow.get(what), amount);
+        if (mode == Actionable.MODULATE) {
+            overflow.remove(what, extracted);
+            overflow.removeZeros();
+            listener.onChange(what);
+        }
+        return extracted;
+    }
+
+    @Override
+    public Iterable<AEKey> findFuzzyTemplates(AEKey what) {
+        List<AEKey> result = Collections.emptyList();
+
+        var candidates = slotsByPrimaryKey.get(what.getPrimaryKey());
+        if (candidates != null) {
+            for (int i = 0; i < candidates.size(); i++) {
+                var slot = candidates.getInt(i);
+                if (amounts[slot] > 0 && keys[slot].fuzzyEquals(what, FuzzyMode.IGNORE_ALL)) {
+                    if (result.isEmpty()) {
+                        result = new ArrayList<>();
+                    }
+                    result.add(keys[slot]);
+                }
+            }
+        }
+
+        if (!overflow.isEmpty()) {
+            for (var entry : overflow.findFuzzy(what, FuzzyMode.IGNORE_ALL)) {
+                if (result.isEmpty()) {
+                    result = new ArrayList<>();
+                }
+                result.add(entry.getKey());
+            }
+        }
+
+        return result;
+    }
+
+    public long get(AEKey what) {
+        var slot = slots.getInt(what);
+        return slot >= 0 ? amounts[slot] : overflow.get(what);
+    }
+
+    private void set(AEKey what, long amount) {
+        var slot = slots.getInt(what);
+        if (slot >= 0) {
+            amounts[slot] = amount;
+        } else {
+            overflow.set(what, amount);
+        }
+    }
+
+    public boolean isEmpty() {
+        for (var amount : amounts) {
+            if (amount != 0) {
+                return false;
+            }
+        }
+        return overflow.isEmpty();
+    }
+
+    /**
+     * Adds the entire content of this inventory to the given counter.
+     */
+    public void addTo(KeyCounter out) {
+        for (int i = 0; i < keys.length; i++) {
+            if (amounts[i] != 0) {
+                out.add(keys[i], amounts[i]);
+            }
+        }
+        out.addAll(overflow);
+    }
+
+    public void clear() {
+        // First clear and then notify, so that if the listener queries the new amount in the change notification,
+        // it will be 0 as it should be.
+        for (int i = 0; i < keys.length; i++) {
+            if (amounts[i] != 0) {
+                amounts[i] = 0;
+                listener.onChange(keys[i]);
+            }
+        }
+        for (var stack : overflow) {
+            stack.setValue(0);
+            listener.onChange(stack.getKey());
+        }
+        overflow.removeZeros();
+    }
+
+    public void readFromNBT(ListTag data) {
+        // Use the same format as the list-based inventory to stay compatible with existing saves
+        var loaded = new ListCraftingInventory(what -> {
+        });
+        loaded.readFromNBT(data);
+
+        for (int i = 0; i < keys.length; i++) {
+            amounts[i] = 0;
+        }
+        overflow.clear();
+        for (var entry : loaded.list) {
+            insert(entry.getKey(), entry.getLongValue(), Actionable.MODULATE);
+        }
+    }
+
+    public ListTag writeToNBT() {
+        var tag = new ListTag();
+
+        for (int i = 0; i < keys.length; i++) {
+            if (amounts[i] != 0) {
+                writeEntry(tag, keys[i], amounts[i]);
+            }
+        }
+        for (var entry : overflow) {
+            writeEntry(tag, entry.getKey(), entry.getLongValue());
+        }
+
+        return tag;
+    }
+
+    private static void writeEntry(ListTag tag, AEKey what, long amount) {
+        var entryTag = what.toTagGeneric();
+        entryTag.putLong("#", amount);
+        tag.add(entryTag);
+    }
+}
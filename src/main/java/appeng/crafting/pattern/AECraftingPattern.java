@@ -18,7 +18,10 @@
 
 package appeng.crafting.pattern;
 
+import java.util.Arrays;
 import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -36,6 +39,7 @@
 import net.minecraft.world.item.crafting.Ingredient;
 import net.minecraft.world.item.crafting.RecipeType;
 import net.minecraft.world.item.crafting.ShapedRecipe;
+import net.minecraft.world.item.crafting.ShapelessRecipe;
 import net.minecraft.world.level.Level;
 
 import appeng.api.behaviors.ContainerItemStrategies;
@@ -52,6 +56,14 @@
 public class AECraftingPattern implements IPatternDetails, IMolecularAssemblerSupportedPattern {
     public static final int CRAFTING_GRID_DIMENSION = 3;
     public static final int CRAFTING_GRID_SLOTS = CRAFTING_GRID_DIMENSION * CRAFTING_GRID_DIMENSION;
+    /**
+     * Maximum number of entries in each of the memos of a pattern.
+     */
+    private static final int MEMO_SIZE = 64;
+    /**
+     * Incremented when recipes are reloaded, which invalidates the memos of all patterns.
+     */
+    private static volatile int memoGeneration;
 
     private final AEItemKey definition;
     public final boolean canSubstitute;
@@ -69,6 +81,19 @@ public class AECraftingPattern implements IPatternDetails, IMolecularAssemblerSu
      */
     @SuppressWarnings("unchecked")
     private final Map<Item, Boolean>[] isValidCache = new Map[9];
+    /**
+     * Results of isValid(...) calls for stacks with NBT, which are too varied to cache them all.
+     */
+    private final Memo<TaggedInput, Boolean> taggedValidMemo = new Memo<>();
+    /**
+     * Results of assembling special recipes, keyed by the exact inputs.
+     */
+    private final Memo<List<AEItemKey>, ItemStack> assembleMemo = new Memo<>();
+    /**
+     * Remainders of the recipe, keyed by the exact inputs. Only used for the vanilla recipe types, whose remainders
+     * only depend on the inputs.
+     */
+    private final Memo<List<AEItemKey>, NonNullList<ItemStack>> remainderMemo = new Memo<>();
 
     public AECraftingPattern(AEItemKey definition, Level level) {
         this.definition = definition;
@@ -292,9 +317,12 @@ private ItemStack getRecipeRemainder(int slot, AEItemKey key) {
      */
     @Nullable
     private Boolean getTestResult(int slot, AEItemKey what) {
-        if (what == null || what.hasTag()) {
+        if (what == null) {
             return null;
         }
+        if (what.hasTag()) {
+            return taggedValidMemo.get(new TaggedInput(slot, what));
+        }
         var cache = isValidCache[slot];
         if (cache == null) {
             return null;
@@ -304,7 +332,9 @@ private Boolean getTestResult(int slot, AEItemKey what) {
     }
 
     private void setTestResult(int slot, AEItemKey what, boolean result) {
-        if (what != null && !what.hasTag()) {
+        if (what != null && what.hasTag()) {
+            taggedValidMemo.put(new TaggedInput(slot, what), result);
+        } else if (what != null) {
             var cache = isValidCache[slot];
             if (cache == null) {
                 cache = isValidCache[slot] = new IdentityHashMap<>();
@@ -388,7 +418,15 @@ public ItemStack assemble(Container container, Level level) {
                 specialRecipeTestFrame.setItem(x, item.copy());
             }
 
-            return recipe.assemble(specialRecipeTestFrame, level.registryAccess());
+            var inputKey = getInputKey(specialRecipeTestFrame);
+            var result = assembleMemo.get(inputKey);
+            if (result == null) {
+                result = recipe.assemble(specialRecipeTestFrame, level.registryAccess());
+                assembleMemo.put(inputKey, result.copy());
+            } else {
+                result = result.copy();
+            }
+            return result;
         }
 
         for (int x = 0; x < container.getContainerSize(); x++) {
@@ -430,7 +468,7 @@ public NonNullList<ItemStack> getRemainingItems(CraftingContainer container) {
                 }
             }
 
-            var result = this.recipe.getRemainingItems(container);
+            var result = getRecipeRemainingItems(container);
 
             // Now ensure the empty buckets are cleared since we didn't really use any buckets to begin with
             for (int i = 0; i < slotsToClear.length; i++) {
@@ -442,8 +480,80 @@ public NonNullList<ItemStack> getRemainingItems(CraftingContainer container) {
             return result;
         } else {
             // If no fluid substitution occurred, just call it as-is
+            return getRecipeRemainingItems(container);
+        }
+    }
+
+    private NonNullList<ItemStack> getRecipeRemainingItems(CraftingContainer container) {
+        // Other recipe types may have side effects or randomness in their remainders
+        if (recipe.getClass() != ShapedRecipe.class && recipe.getClass() != ShapelessRecipe.class) {
             return this.recipe.getRemainingItems(container);
         }
+
+        var inputKey = getInputKey(container);
+        var remainders = remainderMemo.get(inputKey);
+        if (remainders == null) {
+            remainders = this.recipe.getRemainingItems(container);
+            remainderMemo.put(inputKey, copyStacks(remainders));
+        } else {
+            remainders = copyStacks(remainders);
+        }
+        return remainders;
+    }
+
+    private static NonNullList<ItemStack> copyStacks(NonNullList<ItemStack> stacks) {
+        var result = NonNullList.withSize(stacks.size(), ItemStack.EMPTY);
+        for (int i = 0; i < stacks.size(); i++) {
+            result.set(i, stacks.get(i).copy());
+        }
+        return result;
+    }
+
+    private static List<AEItemKey> getInputKey(Container container) {
+        var keys = new AEItemKey[container.getContainerSize()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = AEItemKey.of(container.getItem(i));
+        }
+        return Arrays.asList(keys);
+    }
+
+    /**
+     * Invalidates the memoized recipe results of all patterns, since they may change when recipes are reloaded.
+     */
+    public static void invalidateMemos() {
+        memoGeneration++;
+    }
+
+    private record TaggedInput(int slot, AEItemKey what) {
+    }
+
+    /**
+     * A small LRU map of recipe results. It may be used by the crafting calculation thread and the server thread at
+     * the same time, and is cleared when recipes are reloaded.
+     */
+    private static class Memo<K, V> {
+        private final Map<K, V> entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > MEMO_SIZE;
+            }
+        };
+        private int generation = memoGeneration;
+
+        @Nullable
+        synchronized V get(K key) {
+            if (generation != memoGeneration) {
+                entries.clear();
+                generation = memoGeneration;
+            }
+            return entries.get(key);
+        }
+
+        synchronized void put(K key, V value) {
+            if (generation == memoGeneration) {
+                entries.put(key, value);
+            }
+        }
     }
 
     private GenericStack getItemOrFluidInput(int slot, GenericStack item) {
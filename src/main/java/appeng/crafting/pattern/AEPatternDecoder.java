@@ -20,6 +20,10 @@
 
 import javax.annotation.Nullable;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
 
@@ -30,6 +34,27 @@
 public class AEPatternDecoder implements IPatternDetailsDecoder {
     public static final AEPatternDecoder INSTANCE = new AEPatternDecoder();
 
+    /**
+     * Decoded server-side patterns, shared by every provider, assembler and slot that holds an identical pattern. The
+     * details are immutable, so sharing them also shares the caches they build up. Values are weakly referenced and
+     * released once nothing holds on to them anymore.
+     */
+    private static final Cache<AEItemKey, IPatternDetails> DECODED_PATTERNS = CacheBuilder.newBuilder()
+            .weakValues()
+            .build();
+
+    static {
+        // Decoded patterns reference recipes, which are replaced when datapacks are reloaded
+        ServerLifecycleEvents.SERVER_STARTED.register(server -> clearCache());
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> clearCache());
+        ServerLifecycleEvents.END_DATA_PACK_RELOAD.register((server, resourceManager, success) -> clearCache());
+    }
+
+    public static void clearCache() {
+        DECODED_PATTERNS.invalidateAll();
+        AECraftingPattern.invalidateMemos();
+    }
+
     @Override
     public boolean isEncodedPattern(ItemStack stack) {
         return stack.getItem() instanceof EncodedPatternItem;
@@ -42,7 +67,20 @@ public IPatternDetails decodePattern(AEItemKey what, Level level) {
             return null;
         }
 
-        return encodedPatternItem.decode(what, level);
+        if (level.isClientSide()) {
+            return encodedPatternItem.decode(what, level);
+        }
+
+        var cached = DECODED_PATTERNS.getIfPresent(what);
+        if (cached != null) {
+            return cached;
+        }
+
+        var decoded = encodedPatternItem.decode(what, level);
+        if (decoded != null) {
+            DECODED_PATTERNS.put(what, decoded);
+        }
+        return decoded;
     }
 
     @Nullable
@@ -52,6 +90,18 @@ public IPatternDetails decodePattern(ItemStack what, Level level, boolean tryRec
             return null;
         }
 
-        return encodedPatternItem.decode(what, level, tryRecovery);
+        if (!level.isClientSide() && what.hasTag()) {
+            var cached = DECODED_PATTERNS.getIfPresent(AEItemKey.of(what));
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        var decoded = encodedPatternItem.decode(what, level, tryRecovery);
+        // Recovery may have rewritten the stack, so key the result by its current state
+        if (decoded != null && !level.isClientSide()) {
+            DECODED_PATTERNS.put(AEItemKey.of(what), decoded);
+        }
+        return decoded;
     }
 }
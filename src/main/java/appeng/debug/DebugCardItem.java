@@ -91,6 +91,11 @@ public InteractionResultHolder<ItemStack> use(Level level, Player player, Intera
             for (var line : TickHandler.instance().getBlockEntityReport()) {
                 player.sendSystemMessage(line);
             }
+            divider(player);
+            outputMessage(player, "Tick Queues", ChatFormatting.BOLD);
+            for (var line : TickHandler.instance().getCallableQueueReport()) {
+                player.sendSystemMessage(line);
+            }
         }
 
         return InteractionResultHolder.sidedSuccess(player.getItemInHand(usedHand), level.isClientSide);
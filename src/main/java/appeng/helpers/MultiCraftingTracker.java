@@ -79,6 +79,12 @@ public boolean handleCrafting(int x, AEKey what, long amount,
 
         // We're already running a crafting job
         if (craftingJob != null) {
+            if (craftingJob.isCancelled()) {
+                // The calculation was abandoned by the crafting service, i.e. because we moved to another grid
+                this.setJob(x, null);
+                return false;
+            }
+
             try {
                 ICraftingPlan job = null;
                 if (craftingJob.isDone()) {
@@ -26,6 +26,7 @@
 
 import net.fabricmc.fabric.api.transfer.v1.transaction.TransactionContext;
 import net.fabricmc.fabric.api.transfer.v1.transaction.base.SnapshotParticipant;
+import net.fabricmc.fabric.api.util.TriState;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
@@ -417,6 +418,16 @@ public long extract(AEKey what, long amount, Actionable mode, IActionSource sour
         return extracted;
     }
 
+    @Override
+    public TriState contains(AEKey what) {
+        for (var stack : stacks) {
+            if (stack != null && stack.what().equals(what) && stack.amount() > 0) {
+                return TriState.TRUE;
+            }
+        }
+        return TriState.FALSE;
+    }
+
     @Override
     public void getAvailableStacks(KeyCounter out) {
         for (var stack : stacks) {
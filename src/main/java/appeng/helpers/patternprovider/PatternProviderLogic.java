@@ -24,6 +24,7 @@
 import java.util.List;
 import java.util.Set;
 
+import org.apache.commons.lang3.mutable.MutableBoolean;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -72,6 +73,7 @@
 import appeng.helpers.InterfaceLogicHost;
 import appeng.me.helpers.MachineSource;
 import appeng.util.ConfigManager;
+import appeng.util.Platform;
 import appeng.util.inv.AppEngInternalInventory;
 import appeng.util.inv.InternalInventoryHost;
 import appeng.util.inv.PlayerInternalInventory;
@@ -112,6 +114,11 @@ public class PatternProviderLogic implements InternalInventoryHost, ICraftingPro
     private final PatternProviderReturnInventory returnInv;
 
     private final PatternProviderTargetCache[] targetCaches = new PatternProviderTargetCache[6];
+    /**
+     * Cached result of {@link #getActiveSides()}. Reset when neighbors, grid connections or push directions change.
+     */
+    @Nullable
+    private Set<Direction> activeSides;
 
     private YesNo redstoneState = YesNo.UNDECIDED;
 
@@ -338,13 +345,12 @@ record PushTarget(Direction direction, PatternProviderTarget target) {
                 continue;
             }
 
-            if (this.adapterAcceptsAll(adapter, inputHolder)) {
-                patternDetails.pushInputsToExternalInventory(inputHolder, (what, amount) -> {
-                    var inserted = adapter.insert(what, amount, Actionable.MODULATE);
-                    if (inserted < amount) {
-                        this.addToSendList(what, amount - inserted);
-                    }
-                });
+            var targetCache = targetCaches[direction.get3DDataValue()];
+            if (targetCache.isAnyRecentlyRejected(inputHolder, level.getGameTime())) {
+                continue;
+            }
+
+            if (this.pushInputs(adapter, targetCache, patternDetails, inputHolder, level.getGameTime())) {
                 onPushPatternSuccess(patternDetails);
                 this.sendDirection = direction;
                 this.sendStacksOut();
@@ -415,7 +421,27 @@ public GenericStack getUnlockStack() {
         return unlockStack;
     }
 
+    /**
+     * Resets cached information about the adjacent blocks. Must be called when neighbors, grid connections or the push
+     * directions of the host change.
+     */
+    public void invalidateTargetCache() {
+        activeSides = null;
+        for (var targetCache : targetCaches) {
+            if (targetCache != null) {
+                targetCache.clearRejections();
+            }
+        }
+    }
+
     private Set<Direction> getActiveSides() {
+        if (activeSides == null) {
+            activeSides = computeActiveSides();
+        }
+        return activeSides;
+    }
+
+    private Set<Direction> computeActiveSides() {
         var sides = host.getTargets();
 
         // Skip sides with grid connections to other pattern providers and to interfaces connected to the same network
@@ -452,11 +478,64 @@ private PatternProviderTarget findAdapter(Direction side) {
         return targetCaches[side.get3DDataValue()].find();
     }
 
-    private boolean adapterAcceptsAll(PatternProviderTarget target, KeyCounter[] inputHolder) {
+    /**
+     * Pushes the inputs of a pattern into the target, but only if none of them is rejected entirely. Anything that the
+     * target only partially accepted is queued in the send list.
+     */
+    private boolean pushInputs(PatternProviderTarget target, PatternProviderTargetCache targetCache,
+            IPatternDetails patternDetails, KeyCounter[] inputHolder, long gameTime) {
+        if (!target.isTransactional()) {
+            if (!this.adapterAcceptsAll(target, targetCache, inputHolder, gameTime)) {
+                return false;
+            }
+
+            patternDetails.pushInputsToExternalInventory(inputHolder, (what, amount) -> {
+                var inserted = target.insert(what, amount, Actionable.MODULATE);
+                if (inserted < amount) {
+                    this.addToSendList(what, amount - inserted);
+                }
+            });
+            return true;
+        }
+
+        // Insert all inputs in a single transaction instead of simulating each of them first,
+        // and roll everything back if one of them is rejected.
+        var leftovers = new ArrayList<GenericStack>();
+        var rejected = new MutableBoolean();
+        try (var tx = Platform.openOrJoinTx()) {
+            patternDetails.pushInputsToExternalInventory(inputHolder, (what, amount) -> {
+                if (rejected.isTrue()) {
+                    return;
+                }
+
+                var inserted = target.insert(what, amount, Actionable.MODULATE);
+                if (inserted == 0) {
+                    targetCache.markRejected(what, gameTime);
+                    rejected.setTrue();
+                } else if (inserted < amount) {
+                    leftovers.add(new GenericStack(what, amount - inserted));
+                }
+            });
+
+            if (rejected.isTrue()) {
+                return false;
+            }
+            tx.commit();
+        }
+
+        for (var leftover : leftovers) {
+            this.addToSendList(leftover.what(), leftover.amount());
+        }
+        return true;
+    }
+
+    private boolean adapterAcceptsAll(PatternProviderTarget target, PatternProviderTargetCache targetCache,
+            KeyCounter[] inputHolder, long gameTime) {
         for (var inputList : inputHolder) {
             for (var input : inputList) {
                 var inserted = target.insert(input.getKey(), input.getLongValue(), Actionable.SIMULATE);
                 if (inserted == 0) {
+                    targetCache.markRejected(input.getKey(), gameTime);
                     return false;
                 }
             }
@@ -530,6 +609,7 @@ public InternalInventory getPatternInv() {
     }
 
     public void onMainNodeStateChanged() {
+        invalidateTargetCache();
         if (this.mainNode.isActive()) {
             this.mainNode.ifPresent((grid, node) -> {
                 grid.getTickManager().alertDevice(node);
@@ -30,4 +30,12 @@ public interface PatternProviderTarget {
     long insert(AEKey what, long amount, Actionable type);
 
     boolean containsPatternInput(Set<AEKey> patternInputs);
+
+    /**
+     * @return True if {@link #insert} participates in the current Fabric transaction. Such targets can be inserted
+     *         into speculatively and the insertion is rolled back by aborting the transaction.
+     */
+    default boolean isTransactional() {
+        return false;
+    }
 }
@@ -11,21 +11,35 @@
 import net.minecraft.core.Direction;
 import net.minecraft.server.level.ServerLevel;
 
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+
 import appeng.api.behaviors.ExternalStorageStrategy;
 import appeng.api.config.Actionable;
 import appeng.api.networking.security.IActionSource;
 import appeng.api.stacks.AEKey;
 import appeng.api.stacks.AEKeyType;
+import appeng.api.stacks.KeyCounter;
 import appeng.api.storage.IStorageMonitorableAccessor;
 import appeng.api.storage.MEStorage;
 import appeng.me.storage.CompositeStorage;
+import appeng.me.storage.StorageAdapter;
 import appeng.parts.automation.StackWorldBehaviors;
 
 class PatternProviderTargetCache {
+    /**
+     * How long a key that was entirely rejected by the target will not be offered to it again.
+     */
+    private static final long REJECTION_MEMORY_TICKS = 5;
+
     private final BlockApiCache<IStorageMonitorableAccessor, Direction> cache;
     private final Direction direction;
     private final IActionSource src;
     private final Map<AEKeyType, ExternalStorageStrategy> strategies;
+    /**
+     * Keys that were entirely rejected by the target, mapped to the game tick until which the rejection is remembered.
+     */
+    private final Object2LongMap<AEKey> rejectedUntil = new Object2LongOpenHashMap<>();
 
     PatternProviderTargetCache(ServerLevel l, BlockPos pos, Direction direction, IActionSource src) {
         this.cache = BlockApiCache.create(IStorageMonitorableAccessor.SIDED, l, pos);
@@ -53,22 +67,56 @@ PatternProviderTarget find() {
         }
 
         if (externalStorages.size() > 0) {
-            return wrapMeStorage(new CompositeStorage(externalStorages));
+            // Our own adapters join the current transaction
+            var transactional = true;
+            for (var storage : externalStorages.values()) {
+                transactional &= storage instanceof StorageAdapter<?>;
+            }
+            return wrapMeStorage(new CompositeStorage(externalStorages), transactional);
         }
 
         return null;
     }
 
+    /**
+     * @return True if any of the given keys was recently rejected entirely by the target.
+     */
+    boolean isAnyRecentlyRejected(KeyCounter[] inputs, long gameTime) {
+        if (rejectedUntil.isEmpty()) {
+            return false;
+        }
+
+        for (var inputList : inputs) {
+            for (var input : inputList) {
+                var until = rejectedUntil.getLong(input.getKey());
+                if (until > gameTime) {
+                    return true;
+                } else if (until != 0) {
+                    rejectedUntil.removeLong(input.getKey());
+                }
+            }
+        }
+        return false;
+    }
+
+    void markRejected(AEKey what, long gameTime) {
+        rejectedUntil.put(what, gameTime + REJECTION_MEMORY_TICKS);
+    }
+
+    void clearRejections() {
+        rejectedUntil.clear();
+    }
+
     private PatternProviderTarget wrapStorageMonitorable(IStorageMonitorableAccessor accessor) {
         var storage = accessor.getInventory(src);
         if (storage == null) {
             return null;
         } else {
-            return wrapMeStorage(storage);
+            return wrapMeStorage(storage, false);
         }
     }
 
-    private PatternProviderTarget wrapMeStorage(MEStorage storage) {
+    private PatternProviderTarget wrapMeStorage(MEStorage storage, boolean transactional) {
         return new PatternProviderTarget() {
             @Override
             public long insert(AEKey what, long amount, Actionable type) {
@@ -84,6 +132,11 @@ public boolean containsPatternInput(Set<AEKey> patternInputs) {
                 }
                 return false;
             }
+
+            @Override
+            public boolean isTransactional() {
+                return transactional;
+            }
         };
     }
 }
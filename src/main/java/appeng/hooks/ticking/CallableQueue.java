@@ -0,0 +1,143 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2023, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.hooks.ticking;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+import javax.annotation.Nullable;
+
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ReferenceSet;
+
+import appeng.util.ILevelRunnable;
+
+/**
+ * A queue of {@link ILevelRunnable}s that is drained in order of {@link CallablePriority}, and FIFO within the same
+ * priority. Callbacks can be queued with a key, in which case a callback is only queued if no other callback with the
+ * same key is pending.
+ */
+class CallableQueue {
+    private static final CallablePriority[] PRIORITIES = CallablePriority.values();
+
+    @SuppressWarnings("unchecked")
+    private final Queue<Entry>[] queues = new Queue[PRIORITIES.length];
+    private final ReferenceSet<Object> pendingKeys = new ReferenceOpenHashSet<>();
+    private int size;
+
+    CallableQueue() {
+        for (int i = 0; i < queues.length; i++) {
+            queues[i] = new ArrayDeque<>();
+        }
+    }
+
+    /**
+     * @param key If not null, the callback is not queued if another callback with this key is pending.
+     * @return True if the callback was queued.
+     */
+    boolean add(ILevelRunnable callback, CallablePriority priority, @Nullable Object key, long currentTick) {
+        if (key != null && !pendingKeys.add(key)) {
+            return false;
+        }
+        queues[priority.ordinal()].add(new Entry(callback, priority, key, currentTick));
+        size++;
+        return true;
+    }
+
+    /**
+     * Moves all callbacks from the given queue to the end of this queue, skipping those whose key is already pending
+     * in this queue.
+     */
+    void addAll(CallableQueue other) {
+        for (var queue : other.queues) {
+            for (var entry : queue) {
+                if (entry.key == null || pendingKeys.add(entry.key)) {
+                    queues[entry.priority.ordinal()].add(entry);
+                    size++;
+                }
+            }
+            queue.clear();
+        }
+        other.pendingKeys.clear();
+        other.size = 0;
+    }
+
+    /**
+     * @return The next callback to run, or null if the queue is empty.
+     */
+    @Nullable
+    Entry poll() {
+        for (var priority : PRIORITIES) {
+            var entry = poll(priority);
+            if (entry != null) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return The next callback with the given priority, or null if there is none.
+     */
+    @Nullable
+    Entry poll(CallablePriority priority) {
+        var entry = queues[priority.ordinal()].poll();
+        if (entry != null) {
+            if (entry.key != null) {
+                pendingKeys.remove(entry.key);
+            }
+            size--;
+        }
+        return entry;
+    }
+
+    @Nullable
+    CallablePriority peekPriority() {
+        for (var queue : queues) {
+            var entry = queue.peek();
+            if (entry != null) {
+                return entry.priority;
+            }
+        }
+        return null;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int size(CallablePriority priority) {
+        return queues[priority.ordinal()].size();
+    }
+
+    /**
+     * @return The tick in which the oldest pending callback of the given priority was queued, or -1 if there is none.
+     */
+    long getOldestTick(CallablePriority priority) {
+        var entry = queues[priority.ordinal()].peek();
+        return entry != null ? entry.queuedTick : -1;
+    }
+
+    record Entry(ILevelRunnable callback, CallablePriority priority, @Nullable Object key, long queuedTick) {
+    }
+}
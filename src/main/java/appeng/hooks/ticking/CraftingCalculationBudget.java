@@ -0,0 +1,83 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2023, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.hooks.ticking;
+
+import java.util.concurrent.TimeUnit;
+
+import appeng.core.AEConfig;
+
+/**
+ * Decides how much time per tick is spent on crafting calculations. By default, this is a fixed amount per level. In
+ * adaptive mode, the time the rest of the server tick takes is measured, and calculations get what is left of the
+ * 50 ms tick, within configured bounds.
+ */
+class CraftingCalculationBudget {
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    /**
+     * Time left unused in every tick, to absorb jitter in the tick time.
+     */
+    private static final long SAFETY_MARGIN_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+    /**
+     * Calculations always get at least this much time per level, so they make progress even on overloaded servers.
+     */
+    private static final int MIN_BUDGET_MICROS = 1000;
+    /**
+     * Weight of the exponential moving average for each new tick time sample.
+     */
+    private static final double SMOOTHING = 0.2;
+
+    private long tickStart;
+    private long calculationNanosThisTick;
+    private double otherTickNanosAverage;
+    private long remainingMicros;
+
+    void onTickStart() {
+        tickStart = System.nanoTime();
+        calculationNanosThisTick = 0;
+
+        var headroom = TICK_NANOS - SAFETY_MARGIN_NANOS - (long) otherTickNanosAverage;
+        var maxMicros = AEConfig.instance().getCraftingCalculationMaxTimePerTick() * 1000L;
+        remainingMicros = Math.max(MIN_BUDGET_MICROS, Math.min(maxMicros, headroom / 1000));
+    }
+
+    void onTickEnd() {
+        if (tickStart == 0) {
+            return;
+        }
+
+        // Only track the time taken by everything else, since that is what the calculations have to fit around
+        var otherNanos = System.nanoTime() - tickStart - calculationNanosThisTick;
+        otherTickNanosAverage += (otherNanos - otherTickNanosAverage) * SMOOTHING;
+    }
+
+    /**
+     * @return The time in microseconds that the calculations of a level may take.
+     */
+    int getAvailableMicros() {
+        if (!AEConfig.instance().isCraftingCalculationAdaptive()) {
+            return AEConfig.instance().getCraftingCalculationTimePerTick() * 1000;
+        }
+        return (int) Math.max(MIN_BUDGET_MICROS, remainingMicros);
+    }
+
+    void onCalculationsSimulated(long nanos) {
+        calculationNanosThisTick += nanos;
+        remainingMicros -= nanos / 1000;
+    }
+}
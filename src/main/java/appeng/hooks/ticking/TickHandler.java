@@ -18,7 +18,6 @@
 
 package appeng.hooks.ticking;
 
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -26,10 +25,11 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Queue;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
+import javax.annotation.Nullable;
+
 import com.google.common.base.Preconditions;
 import com.google.common.base.Stopwatch;
 import com.google.common.collect.LinkedListMultimap;
@@ -38,6 +38,7 @@
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerChunkEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
+import net.minecraft.ChatFormatting;
 import net.minecraft.CrashReport;
 import net.minecraft.ReportedException;
 import net.minecraft.network.chat.Component;
@@ -49,7 +50,6 @@
 import net.minecraft.world.level.chunk.LevelChunk;
 
 import appeng.blockentity.AEBaseBlockEntity;
-import appeng.core.AEConfig;
 import appeng.core.AELog;
 import appeng.crafting.CraftingCalculation;
 import appeng.me.Grid;
@@ -63,11 +63,20 @@ public class TickHandler {
      * Time limit for process queues with respect to the 50ms of a minecraft tick.
      */
     private static final int TIME_LIMIT_PROCESS_QUEUE_MILLISECONDS = 25;
+    /**
+     * Share of the crafting calculation time that calculations requested by players get, relative to automated ones.
+     */
+    private static final int INTERACTIVE_CALCULATION_WEIGHT = 4;
 
     private static final TickHandler INSTANCE = new TickHandler();
-    private final Queue<ILevelRunnable> serverQueue = new ArrayDeque<>();
+    private final CallableQueue serverQueue = new CallableQueue();
     private final Multimap<LevelAccessor, CraftingCalculation> craftingJobs = LinkedListMultimap.create();
-    private final Map<LevelAccessor, Queue<ILevelRunnable>> callQueue = new HashMap<>();
+    private final CraftingCalculationBudget craftingBudget = new CraftingCalculationBudget();
+    /**
+     * Block entities that requested a client update during the current tick.
+     */
+    private List<AEBaseBlockEntity> pendingUpdates = new ArrayList<>();
+    private final Map<LevelAccessor, CallableQueue> callQueue = new HashMap<>();
     private final ServerBlockEntityRepo blockEntities = new ServerBlockEntityRepo();
     private final ServerGridRepo grids = new ServerGridRepo();
 
@@ -80,6 +89,12 @@ public class TickHandler {
     private final Stopwatch stopWatch = Stopwatch.createUnstarted();
     private int processQueueElementsProcessed = 0;
     private int processQueueElementsRemaining = 0;
+    /**
+     * Queue statistics of the last completed server tick, for {@link #getCallableQueueReport()}.
+     */
+    private int lastTickElementsProcessed = 0;
+    private long lastTickMaxElementAge = 0;
+    private long processQueueMaxElementAge = 0;
 
     private long tickCounter;
 
@@ -104,6 +119,10 @@ public void addCallable(LevelAccessor level, Runnable c) {
         addCallable(level, ignored -> c.run());
     }
 
+    public void addCallable(LevelAccessor level, CallablePriority priority, Runnable c) {
+        addCallable(level, priority, ignored -> c.run());
+    }
+
     /**
      * Add a server or level callback which gets called the next time the queue is ticked.
      * <p>
@@ -116,19 +135,36 @@ public void addCallable(LevelAccessor level, Runnable c) {
      * @param c     the callback
      */
     public void addCallable(LevelAccessor level, ILevelRunnable c) {
+        addCallable(level, CallablePriority.NORMAL, c);
+    }
+
+    /**
+     * Same as {@link #addCallable(LevelAccessor, ILevelRunnable)}, but callbacks with a higher priority are run before
+     * those with a lower priority.
+     */
+    public void addCallable(LevelAccessor level, CallablePriority priority, ILevelRunnable c) {
+        getQueue(level).add(c, priority, null, tickCounter);
+    }
+
+    /**
+     * Same as {@link #addCallable(LevelAccessor, CallablePriority, ILevelRunnable)}, but the callback is not queued if
+     * a callback with the same key is already pending for the level.
+     *
+     * @param key Identifies the callback, i.e. the block entity whose deferred work it performs. Compared by identity.
+     * @return True if the callback was queued.
+     */
+    public boolean addUniqueCallable(LevelAccessor level, Object key, CallablePriority priority, ILevelRunnable c) {
+        Objects.requireNonNull(key);
+        return getQueue(level).add(c, priority, key, tickCounter);
+    }
+
+    private CallableQueue getQueue(@Nullable LevelAccessor level) {
         Preconditions.checkArgument(level == null || !level.isClientSide(), "Can only register serverside callbacks");
 
         if (level == null) {
-            this.serverQueue.add(c);
+            return this.serverQueue;
         } else {
-            Queue<ILevelRunnable> queue = this.callQueue.get(level);
-
-            if (queue == null) {
-                queue = new ArrayDeque<>();
-                this.callQueue.put(level, queue);
-            }
-
-            queue.add(c);
+            return this.callQueue.computeIfAbsent(level, l -> new CallableQueue());
         }
     }
 
@@ -181,6 +217,7 @@ public void shutdown() {
         Platform.assertServerThread();
         this.blockEntities.clear();
         this.grids.clear();
+        this.pendingUpdates.clear();
     }
 
     /**
@@ -217,15 +254,18 @@ public void onUnloadLevel(ServerLevel level) {
 
         this.blockEntities.removeLevel(level);
         this.callQueue.remove(level);
+        this.pendingUpdates.removeIf(blockEntity -> blockEntity.getLevel() == level);
     }
 
     private void onServerLevelTickStart(ServerLevel level) {
         var queue = this.callQueue.remove(level);
         processQueueElementsRemaining += this.processQueue(queue, level);
-        var newQueue = this.callQueue.put(level, queue);
-        // Some new tasks may have been added while we were processing the queue
-        if (newQueue != null) {
-            queue.addAll(newQueue);
+        if (queue != null) {
+            var newQueue = this.callQueue.put(level, queue);
+            // Some new tasks may have been added while we were processing the queue
+            if (newQueue != null) {
+                queue.addAll(newQueue);
+            }
         }
 
         // tick networks
@@ -263,7 +303,9 @@ private void onServerTickStart() {
         // Reset the stop watch on the start of each server tick.
         this.processQueueElementsProcessed = 0;
         this.processQueueElementsRemaining = 0;
+        this.processQueueMaxElementAge = 0;
         this.stopWatch.reset();
+        this.craftingBudget.onTickStart();
 
         // tick networks
         for (var g : this.grids.getNetworks()) {
@@ -297,8 +339,29 @@ private void onServerTickEnd() {
                     TIME_LIMIT_PROCESS_QUEUE_MILLISECONDS, processQueueElementsProcessed,
                     processQueueElementsRemaining);
         }
+        this.lastTickElementsProcessed = this.processQueueElementsProcessed;
+        this.lastTickMaxElementAge = this.processQueueMaxElementAge;
+
+        this.sendPendingUpdates();
 
         tickCounter++;
+        this.craftingBudget.onTickEnd();
+    }
+
+    /**
+     * Queues a block entity to send its client update at the end of the current server tick.
+     */
+    public void addPendingUpdate(AEBaseBlockEntity blockEntity) {
+        this.pendingUpdates.add(blockEntity);
+    }
+
+    private void sendPendingUpdates() {
+        // Sending updates may queue further updates, which will be sent next tick
+        var updates = this.pendingUpdates;
+        this.pendingUpdates = new ArrayList<>();
+        for (var blockEntity : updates) {
+            blockEntity.sendPendingUpdate();
+        }
     }
 
     public void registerCraftingSimulation(Level level, CraftingCalculation craftingCalculation) {
@@ -310,29 +373,40 @@ public void registerCraftingSimulation(Level level, CraftingCalculation crafting
     }
 
     /**
-     * Simulates the current crafting requests before they user can submit them to be processed.
+     * Simulates the current crafting requests before they user can submit them to be processed. The available time is
+     * split across the calculations by weight, with requests made by players getting a larger share.
      */
     private void simulateCraftingJobs(LevelAccessor level) {
         synchronized (this.craftingJobs) {
             final Collection<CraftingCalculation> jobSet = this.craftingJobs.get(level);
 
             if (!jobSet.isEmpty()) {
-                final int jobSize = jobSet.size();
-                final int microSecondsPerTick = AEConfig.instance().getCraftingCalculationTimePerTick() * 1000;
-                final int simTime = Math.max(1, microSecondsPerTick / jobSize);
+                final long microSecondsPerTick = this.craftingBudget.getAvailableMicros();
+                int totalWeight = 0;
+                for (var cj : jobSet) {
+                    totalWeight += getCalculationWeight(cj);
+                }
 
+                var start = System.nanoTime();
                 final Iterator<CraftingCalculation> i = jobSet.iterator();
 
                 while (i.hasNext()) {
                     final CraftingCalculation cj = i.next();
+                    final int simTime = (int) Math.max(1,
+                            microSecondsPerTick * getCalculationWeight(cj) / totalWeight);
                     if (!cj.simulateFor(simTime)) {
                         i.remove();
                     }
                 }
+                this.craftingBudget.onCalculationsSimulated(System.nanoTime() - start);
             }
         }
     }
 
+    private static int getCalculationWeight(CraftingCalculation calculation) {
+        return calculation.isInteractive() ? INTERACTIVE_CALCULATION_WEIGHT : 1;
+    }
+
     /**
      * Ready the block entities in this level. server-side only.
      */
@@ -380,13 +454,16 @@ private void readyBlockEntities(ServerLevel level) {
     /**
      * Process the {@link ILevelRunnable} queue in this {@link Level}
      * <p>
-     * This has a hard limit of about 50 ms before deferring further processing into the next tick.
+     * This has a hard limit of about 50 ms before deferring further processing into the next tick. Only callbacks with
+     * {@link CallablePriority#HIGH} are still run after the limit has been exceeded. Since the limit is shared by the
+     * server and all level queues, each queue still runs at least one callback, and one with
+     * {@link CallablePriority#LOW} if it has any, so that no queue or priority is starved.
      *
      * @param queue the queue to process
      * @param level the level in which the queue is processed or null for the server queue
      * @return the amount of remaining callbacks
      */
-    private int processQueue(Queue<ILevelRunnable> queue, Level level) {
+    private int processQueue(CallableQueue queue, Level level) {
         if (queue == null) {
             return 0;
         }
@@ -394,18 +471,23 @@ private int processQueue(Queue<ILevelRunnable> queue, Level level) {
         // start the clock
         stopWatch.start();
 
+        boolean processedAny = false;
+        boolean processedLow = false;
         while (!queue.isEmpty()) {
-            try {
-                // call the first queue element.
-                queue.poll().call(level);
-                this.processQueueElementsProcessed++;
-
-                if (stopWatch.elapsed(TimeUnit.MILLISECONDS) > TIME_LIMIT_PROCESS_QUEUE_MILLISECONDS) {
-                    break;
-                }
-            } catch (Exception e) {
-                AELog.warn(e);
+            if (processedAny && queue.peekPriority() != CallablePriority.HIGH
+                    && stopWatch.elapsed(TimeUnit.MILLISECONDS) > TIME_LIMIT_PROCESS_QUEUE_MILLISECONDS) {
+                break;
             }
+
+            // call the first queue element.
+            var entry = queue.poll();
+            processedAny = true;
+            processedLow |= entry.priority() == CallablePriority.LOW;
+            this.processQueueEntry(entry, level);
+        }
+
+        if (!processedLow && queue.size(CallablePriority.LOW) > 0) {
+            this.processQueueEntry(queue.poll(CallablePriority.LOW), level);
         }
 
         // stop watch for the next call
@@ -414,6 +496,17 @@ private int processQueue(Queue<ILevelRunnable> queue, Level level) {
         return queue.size();
     }
 
+    private void processQueueEntry(CallableQueue.Entry entry, Level level) {
+        this.processQueueMaxElementAge = Math.max(this.processQueueMaxElementAge,
+                tickCounter - entry.queuedTick());
+        try {
+            entry.callback().call(level);
+            this.processQueueElementsProcessed++;
+        } catch (Exception e) {
+            AELog.warn(e);
+        }
+    }
+
     public long getCurrentTick() {
         return tickCounter;
     }
@@ -421,4 +514,42 @@ public long getCurrentTick() {
     public List<Component> getBlockEntityReport() {
         return blockEntities.getReport();
     }
+
+    /**
+     * Reports the backlog of the callback queues, to see whether they keep up with the callbacks being queued.
+     */
+    public List<Component> getCallableQueueReport() {
+        var result = new ArrayList<Component>();
+        result.add(Component.literal("Last tick: ").withStyle(ChatFormatting.BOLD)
+                .append(lastTickElementsProcessed + " callbacks, oldest queued " + lastTickMaxElementAge
+                        + " ticks ago"));
+
+        addQueueReport(result, "server", serverQueue);
+        for (var entry : callQueue.entrySet()) {
+            var level = entry.getKey();
+            String levelName = level.toString();
+            if (level instanceof ServerLevel serverLevel) {
+                levelName = serverLevel.dimension().location().toString();
+            }
+            addQueueReport(result, levelName, entry.getValue());
+        }
+
+        return result;
+    }
+
+    private void addQueueReport(List<Component> result, String name, @Nullable CallableQueue queue) {
+        if (queue == null || queue.isEmpty()) {
+            return;
+        }
+
+        result.add(Component.literal(name).withStyle(ChatFormatting.BOLD));
+        for (var priority : CallablePriority.values()) {
+            var oldestTick = queue.getOldestTick(priority);
+            if (oldestTick >= 0) {
+                result.add(Component.literal(priority + ": ").withStyle(ChatFormatting.BOLD)
+                        .append(queue.size(priority) + " pending, oldest " + (tickCounter - oldestTick)
+                                + " ticks"));
+            }
+        }
+    }
 }
@@ -60,6 +60,7 @@
 import appeng.core.AEConfig;
 import appeng.hooks.IBlockTool;
 import appeng.items.tools.powered.powersink.AEBasePoweredItem;
+import appeng.recipes.RecipeIndex;
 import appeng.recipes.entropy.EntropyMode;
 import appeng.recipes.entropy.EntropyRecipe;
 import appeng.util.InteractionUtil;
@@ -72,6 +73,12 @@ public class EntropyManipulatorItem extends AEBasePoweredItem implements IBlockT
      */
     public static final int ENERGY_PER_USE = 1600;
 
+    /**
+     * Recipes that require an input block are indexed by that block, the others by their input fluid.
+     */
+    private static final RecipeIndex<EntropyRecipe, Object> RECIPES_BY_INPUT = new RecipeIndex<>(EntropyRecipe.TYPE,
+            recipe -> List.of(recipe.getInputBlock() != null ? recipe.getInputBlock() : recipe.getInputFluid()));
+
     public EntropyManipulatorItem(Item.Properties props) {
         super(AEConfig.instance().getEntropyManipulatorBattery(), props);
     }
@@ -284,7 +291,7 @@ private boolean performInWorldSmelting(ItemStack item, Level level, Player p, Bl
     @Nullable
     private static EntropyRecipe findRecipe(Level level, EntropyMode mode, BlockState blockState,
             FluidState fluidState) {
-        for (var recipe : level.getRecipeManager().byType(EntropyRecipe.TYPE).values()) {
+        for (var recipe : RECIPES_BY_INPUT.get(level, blockState.getBlock(), fluidState.getType())) {
             if (recipe.matches(mode, blockState, fluidState)) {
                 return recipe;
             }
@@ -20,19 +20,24 @@
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
-import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.MultimapBuilder;
 import com.google.common.collect.SetMultimap;
 
 import net.minecraft.CrashReportCategory;
 import net.minecraft.world.level.Level;
 
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+
 import appeng.api.networking.GridServicesInternal;
 import appeng.api.networking.IGrid;
 import appeng.api.networking.IGridNode;
@@ -44,6 +49,8 @@
 import appeng.core.AELog;
 import appeng.core.worlddata.IGridStorageSaveData;
 import appeng.hooks.ticking.TickHandler;
+import appeng.me.profiling.GridProfiler;
+import appeng.me.storage.NetworkStorage;
 
 public class Grid implements IGrid {
     /**
@@ -53,6 +60,14 @@ public class Grid implements IGrid {
     private static int nextSerial = 0;
 
     private final SetMultimap<Class<?>, IGridNode> machines = MultimapBuilder.hashKeys().hashSetValues().build();
+    /**
+     * The machines of each class, kept up to date as nodes join, leave or change their active state.
+     */
+    private final Map<Class<?>, MachineSets> machineSets = new HashMap<>();
+    /**
+     * Incremented on every change to any of the machine sets, to hand out versions that are never reused.
+     */
+    private int machinesVersion;
     private final Map<Class<?>, IGridServiceProvider> services;
     private GridNode pivot;
     private int priority; // how import is this network?
@@ -103,7 +118,15 @@ void remove(GridNode gridNode) {
         }
 
         var machineClass = gridNode.getOwner().getClass();
-        this.machines.remove(machineClass, gridNode);
+        var sets = this.machineSets.get(machineClass);
+        if (this.machines.remove(machineClass, gridNode) && sets != null) {
+            sets.remove(gridNode);
+            if (sets.machines.isEmpty()) {
+                this.machineSets.remove(machineClass);
+            } else {
+                sets.version = ++this.machinesVersion;
+            }
+        }
 
         gridNode.setGridStorage(null);
 
@@ -162,7 +185,11 @@ void add(GridNode gridNode) {
         gridNode.setGridStorage(this.myStorage);
 
         // track node.
-        this.machines.put(gridNode.getOwner().getClass(), gridNode);
+        if (this.machines.put(gridNode.getOwner().getClass(), gridNode)) {
+            var sets = this.machineSets.computeIfAbsent(gridNode.getOwner().getClass(), c -> new MachineSets());
+            sets.add(gridNode);
+            sets.version = ++this.machinesVersion;
+        }
 
         for (var service : this.services.values()) {
             service.addNode(gridNode);
@@ -195,30 +222,34 @@ public Iterable<IGridNode> getMachineNodes(Class<?> machineClass) {
         return this.machines.get(machineClass);
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public <T> Set<T> getMachines(Class<T> machineClass) {
-        Set<IGridNode> nodes = this.machines.get(machineClass);
-        var resultBuilder = ImmutableSet.<T>builder();
-        for (IGridNode node : nodes) {
-            var logicalHost = node.getOwner();
-            if (machineClass.isInstance(logicalHost)) {
-                resultBuilder.add(machineClass.cast(logicalHost));
-            }
-        }
-        return resultBuilder.build();
+        var sets = this.machineSets.get(machineClass);
+        return sets != null ? (Set<T>) sets.machinesView : Set.of();
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public <T> Set<T> getActiveMachines(Class<T> machineClass) {
-        Set<IGridNode> nodes = this.machines.get(machineClass);
-        var resultBuilder = ImmutableSet.<T>builder();
-        for (IGridNode node : nodes) {
-            var logicalHost = node.getOwner();
-            if (machineClass.isInstance(logicalHost) && node.isActive()) {
-                resultBuilder.add(machineClass.cast(logicalHost));
-            }
+        var sets = this.machineSets.get(machineClass);
+        return sets != null ? (Set<T>) sets.activeMachinesView : Set.of();
+    }
+
+    @Override
+    public int getMachinesVersion(Class<?> machineClass) {
+        var sets = this.machineSets.get(machineClass);
+        return sets != null ? sets.version : 0;
+    }
+
+    /**
+     * Called when the power, channel or boot state of a node changed, which may change whether it is active.
+     */
+    void onNodeStatusChanged(GridNode node) {
+        var sets = this.machineSets.get(node.getOwner().getClass());
+        if (sets != null && sets.updateActive(node)) {
+            sets.version = ++this.machinesVersion;
         }
-        return resultBuilder.build();
     }
 
     @Override
@@ -241,33 +272,37 @@ void setPivot(GridNode pivot) {
     }
 
     public void onServerStartTick() {
-        for (var gc : this.services.values()) {
-            if (this.pivot != null) {
-                gc.onServerStartTick();
-            }
-        }
+        tickServices(IGridServiceProvider::onServerStartTick);
     }
 
     public void onLevelStartTick(Level level) {
-        for (var gc : this.services.values()) {
-            if (this.pivot != null) {
-                gc.onLevelStartTick(level);
-            }
-        }
+        tickServices(gc -> gc.onLevelStartTick(level));
     }
 
     public void onLevelEndTick(Level level) {
-        for (var gc : this.services.values()) {
-            if (this.pivot != null) {
-                gc.onLevelEndTick(level);
-            }
-        }
+        tickServices(gc -> gc.onLevelEndTick(level));
     }
 
     public void onServerEndTick() {
+        tickServices(IGridServiceProvider::onServerEndTick);
+
+        if (GridProfiler.isEnabled() && this.pivot != null
+                && getStorageService().getInventory() instanceof NetworkStorage networkStorage) {
+            GridProfiler.recordStorageOperations(this, networkStorage.getInsertCount(),
+                    networkStorage.getExtractCount());
+        }
+    }
+
+    private void tickServices(Consumer<IGridServiceProvider> tick) {
         for (var gc : this.services.values()) {
             if (this.pivot != null) {
-                gc.onServerEndTick();
+                if (GridProfiler.isEnabled()) {
+                    var start = System.nanoTime();
+                    tick.accept(gc);
+                    GridProfiler.recordServiceTick(this, gc.getClass(), System.nanoTime() - start);
+                } else {
+                    tick.accept(gc);
+                }
             }
         }
     }
@@ -318,4 +353,51 @@ public void fillCrashReportCategory(CrashReportCategory category) {
     public String toString() {
         return "Grid #" + serialNumber;
     }
+
+    /**
+     * Tracks the machines of a single class. Since a machine can own several nodes, the number of (active) nodes per
+     * machine is counted, and the key sets of these counts are handed out as read-only views.
+     */
+    private static class MachineSets {
+        private final Reference2IntOpenHashMap<Object> machines = new Reference2IntOpenHashMap<>();
+        private final Reference2IntOpenHashMap<Object> activeMachines = new Reference2IntOpenHashMap<>();
+        private final Set<IGridNode> activeNodes = new ReferenceOpenHashSet<>();
+        private final Set<Object> machinesView = Collections.unmodifiableSet(machines.keySet());
+        private final Set<Object> activeMachinesView = Collections.unmodifiableSet(activeMachines.keySet());
+        private int version;
+
+        void add(IGridNode node) {
+            machines.addTo(node.getOwner(), 1);
+            updateActive(node);
+        }
+
+        void remove(IGridNode node) {
+            if (activeNodes.remove(node)) {
+                decrement(activeMachines, node.getOwner());
+            }
+            decrement(machines, node.getOwner());
+        }
+
+        /**
+         * @return True if the node was added to or removed from the active machines.
+         */
+        boolean updateActive(IGridNode node) {
+            if (node.isActive()) {
+                if (activeNodes.add(node)) {
+                    activeMachines.addTo(node.getOwner(), 1);
+                    return true;
+                }
+            } else if (activeNodes.remove(node)) {
+                decrement(activeMachines, node.getOwner());
+                return true;
+            }
+            return false;
+        }
+
+        private static void decrement(Reference2IntOpenHashMap<Object> counts, Object owner) {
+            if (counts.addTo(owner, -1) <= 1) {
+                counts.removeInt(owner);
+            }
+        }
+    }
 }
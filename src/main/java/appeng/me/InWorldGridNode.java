@@ -34,6 +34,7 @@
 import appeng.api.networking.IGridNodeListener;
 import appeng.api.util.AEColor;
 import appeng.core.AELog;
+import appeng.hooks.ticking.CallablePriority;
 import appeng.hooks.ticking.TickHandler;
 
 /**
@@ -161,6 +162,7 @@ private boolean connectTo(Direction direction, IGridNode adjacentNode) {
             AELog.debug(e);
             TickHandler.instance().addCallable(
                     adjacentNode.getLevel(),
+                    CallablePriority.HIGH,
                     () -> callListener(IGridNodeListener::onSecurityBreak));
 
             return false;
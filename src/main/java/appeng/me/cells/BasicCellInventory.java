@@ -20,6 +20,7 @@
 
 import java.util.Objects;
 
+import net.fabricmc.fabric.api.util.TriState;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
@@ -45,11 +46,12 @@
 import appeng.api.upgrades.IUpgradeInventory;
 import appeng.core.AELog;
 import appeng.core.definitions.AEItems;
+import appeng.me.storage.IOffThreadReadable;
 import appeng.util.ConfigInventory;
 import appeng.util.prioritylist.FuzzyPriorityList;
 import appeng.util.prioritylist.IPartitionList;
 
-public class BasicCellInventory implements StorageCell {
+public class BasicCellInventory implements StorageCell, IOffThreadReadable {
     private static final int MAX_ITEM_TYPES = 63;
     private static final String ITEM_COUNT_TAG = "ic";
     private static final String STACK_KEYS = "keys";
@@ -291,6 +293,14 @@ public void getAvailableStacks(KeyCounter out) {
         }
     }
 
+    /**
+     * The stored amounts are loaded lazily from the item's NBT on first access, which must happen on the server thread.
+     */
+    @Override
+    public boolean canReadOffThread() {
+        return this.storedAmounts != null;
+    }
+
     @Override
     public double getIdleDrain() {
         return this.cellType.getIdleDrain();
@@ -443,6 +453,11 @@ private long innerInsert(AEKey what, long amount, Actionable mode, IActionSource
         return amount;
     }
 
+    @Override
+    public TriState contains(AEKey what) {
+        return TriState.of(getCellItems().getLong(what) > 0);
+    }
+
     @Override
     public long extract(AEKey what, long amount, Actionable mode, IActionSource source) {
         var currentAmount = getCellItems().getLong(what);
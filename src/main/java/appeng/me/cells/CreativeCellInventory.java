@@ -21,6 +21,7 @@
 import java.util.HashSet;
 import java.util.Set;
 
+import net.fabricmc.fabric.api.util.TriState;
 import net.minecraft.network.chat.Component;
 import net.minecraft.world.item.ItemStack;
 
@@ -31,8 +32,9 @@
 import appeng.api.storage.cells.CellState;
 import appeng.api.storage.cells.StorageCell;
 import appeng.items.contents.CellConfig;
+import appeng.me.storage.IOffThreadReadable;
 
-class CreativeCellInventory implements StorageCell {
+class CreativeCellInventory implements StorageCell, IOffThreadReadable {
     private final Set<AEKey> configured;
     private final ItemStack stack;
 
@@ -66,6 +68,16 @@ public boolean isPreferredStorageFor(AEKey input, IActionSource source) {
         return this.configured.contains(input);
     }
 
+    @Override
+    public TriState contains(AEKey what) {
+        return TriState.of(this.configured.contains(what));
+    }
+
+    @Override
+    public boolean canReadOffThread() {
+        return true;
+    }
+
     @Override
     public CellState getStatus() {
         return CellState.TYPES_FULL;
@@ -0,0 +1,215 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2023, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.helpers;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.TreeSet;
+
+import javax.annotation.Nullable;
+
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+
+import appeng.api.config.FuzzyMode;
+import appeng.api.stacks.AEKey;
+
+/**
+ * Tracks the running total of a set of keys (a single key, a fuzzy range or all keys) for every registered threshold,
+ * and reports watchers whose threshold was crossed by a change. Thresholds on the same range share one total and are
+ * kept sorted, so a change only visits the thresholds it actually crossed.
+ */
+public class StackThresholds<T> {
+
+    /**
+     * The amounts the totals are derived from. All changes to it must be reported through {@link #onChange}.
+     */
+    private final Object2LongMap<AEKey> amounts;
+    private final Map<Object, List<Group<T>>> groupsByPrimaryKey = new HashMap<>();
+    private final List<Group<T>> allKeysGroups = new ArrayList<>();
+    private long nextId;
+
+    public StackThresholds(Object2LongMap<AEKey> amounts) {
+        this.amounts = amounts;
+    }
+
+    /**
+     * Registers a threshold on the total amount of the keys matching {@code what}.
+     *
+     * @param what      The key to watch, or null to watch the total of all keys.
+     * @param fuzzyMode If not null, all keys fuzzy-matching {@code what} are added up.
+     */
+    public Threshold<T> add(@Nullable AEKey what, @Nullable FuzzyMode fuzzyMode, long threshold, T watcher) {
+        var groups = what == null ? allKeysGroups
+                : groupsByPrimaryKey.computeIfAbsent(what.getPrimaryKey(), k -> new ArrayList<>());
+
+        Group<T> group = null;
+        for (var candidate : groups) {
+            if (Objects.equals(candidate.what, what) && candidate.fuzzyMode == fuzzyMode) {
+                group = candidate;
+                break;
+            }
+        }
+        if (group == null) {
+            group = new Group<>(what, what == null ? null : fuzzyMode);
+            for (var entry : amounts.object2LongEntrySet()) {
+                if (group.matches(entry.getKey())) {
+                    group.total += entry.getLongValue();
+                }
+            }
+            groups.add(group);
+        }
+
+        var result = new Threshold<>(threshold, nextId++, watcher, group);
+        group.thresholds.add(result);
+        return result;
+    }
+
+    public void remove(Threshold<T> threshold) {
+        var group = threshold.group;
+        if (group.thresholds.remove(threshold) && group.thresholds.isEmpty()) {
+            if (group.what == null) {
+                allKeysGroups.remove(group);
+            } else {
+                var groups = groupsByPrimaryKey.get(group.what.getPrimaryKey());
+                if (groups != null) {
+                    groups.remove(group);
+                    if (groups.isEmpty()) {
+                        groupsByPrimaryKey.remove(group.what.getPrimaryKey());
+                    }
+                }
+            }
+        }
+    }
+
+    public boolean isEmpty() {
+        return groupsByPrimaryKey.isEmpty() && allKeysGroups.isEmpty();
+    }
+
+    /**
+     * Updates the totals affected by a change of {@code what} and returns the thresholds that were crossed, i.e. whose
+     * watchers will now see a different result for {@code total >= threshold}.
+     */
+    public List<Threshold<T>> onChange(AEKey what, long oldAmount, long newAmount) {
+        if (oldAmount == newAmount) {
+            return List.of();
+        }
+
+        List<Threshold<T>> crossed = List.of();
+        var groups = groupsByPrimaryKey.get(what.getPrimaryKey());
+        if (groups != null) {
+            for (var group : groups) {
+                if (group.matches(what)) {
+                    crossed = group.update(newAmount - oldAmount, crossed);
+                }
+            }
+        }
+        for (var group : allKeysGroups) {
+            crossed = group.update(newAmount - oldAmount, crossed);
+        }
+        return crossed;
+    }
+
+    public static class Threshold<T> implements Comparable<Threshold<T>> {
+        private final long threshold;
+        private final long id;
+        private final T watcher;
+        private final Group<T> group;
+
+        private Threshold(long threshold, long id, T watcher, Group<T> group) {
+            this.threshold = threshold;
+            this.id = id;
+            this.watcher = watcher;
+            this.group = group;
+        }
+
+        public T getWatcher() {
+            return watcher;
+        }
+
+        /**
+         * @return The key this threshold was registered for, or null if it watches all keys.
+         */
+        @Nullable
+        public AEKey getWhat() {
+            return group.what;
+        }
+
+        /**
+         * @return The current total amount of the watched keys.
+         */
+        public long getTotal() {
+            return group.total;
+        }
+
+        @Override
+        public int compareTo(Threshold<T> o) {
+            int result = Long.compare(this.threshold, o.threshold);
+            return result != 0 ? result : Long.compare(this.id, o.id);
+        }
+    }
+
+    private static class Group<T> {
+        @Nullable
+        private final AEKey what;
+        @Nullable
+        private final FuzzyMode fuzzyMode;
+        private final NavigableSet<Threshold<T>> thresholds = new TreeSet<>();
+        private long total;
+
+        private Group(@Nullable AEKey what, @Nullable FuzzyMode fuzzyMode) {
+            this.what = what;
+            this.fuzzyMode = fuzzyMode;
+        }
+
+        private boolean matches(AEKey key) {
+            if (what == null) {
+                return true;
+            } else if (fuzzyMode == null) {
+                return what.equals(key);
+            } else {
+                return what.fuzzyEquals(key, fuzzyMode);
+            }
+        }
+
+        private List<Threshold<T>> update(long delta, List<Threshold<T>> crossed) {
+            var oldTotal = total;
+            total += delta;
+
+            // A threshold is crossed if it is in (low, high]. The bounds use the largest id so that thresholds equal
+            // to low are excluded and thresholds equal to high are included.
+            var low = new Threshold<T>(Math.min(oldTotal, total), Long.MAX_VALUE, null, this);
+            var high = new Threshold<T>(Math.max(oldTotal, total), Long.MAX_VALUE, null, this);
+            var range = thresholds.subSet(low, false, high, true);
+            if (range.isEmpty()) {
+                return crossed;
+            }
+
+            // Copy, since watchers are notified after all totals are updated and may modify their thresholds
+            if (crossed.isEmpty()) {
+                crossed = new ArrayList<>();
+            }
+            crossed.addAll(range);
+            return crossed;
+        }
+    }
+}
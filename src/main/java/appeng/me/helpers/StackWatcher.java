@@ -1,9 +1,14 @@
 package appeng.me.helpers;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 
+import javax.annotation.Nullable;
+
+import appeng.api.config.FuzzyMode;
 import appeng.api.networking.IStackWatcher;
 import appeng.api.stacks.AEKey;
 
@@ -13,12 +18,21 @@
 public class StackWatcher<T> implements IStackWatcher {
 
     private final InterestManager<StackWatcher<T>> interestManager;
+    @Nullable
+    private final StackThresholds<StackWatcher<T>> thresholds;
     private final T myHost;
     private final Set<AEKey> myInterests = new HashSet<>();
+    private final List<StackThresholds.Threshold<StackWatcher<T>>> myThresholds = new ArrayList<>();
     private boolean destroyed = false;
 
     public StackWatcher(InterestManager<StackWatcher<T>> interestManager, T host) {
+        this(interestManager, null, host);
+    }
+
+    public StackWatcher(InterestManager<StackWatcher<T>> interestManager,
+            @Nullable StackThresholds<StackWatcher<T>> thresholds, T host) {
         this.interestManager = interestManager;
+        this.thresholds = thresholds;
         this.myHost = host;
     }
 
@@ -47,10 +61,32 @@ public void remove(AEKey o) {
         }
     }
 
+    @Override
+    public void addThreshold(@Nullable AEKey what, @Nullable FuzzyMode fuzzyMode, long threshold) {
+        if (destroyed) {
+            return;
+        }
+
+        if (thresholds != null) {
+            myThresholds.add(thresholds.add(what, fuzzyMode, threshold, this));
+        } else if (what == null || fuzzyMode != null) {
+            setWatchAll(true);
+        } else {
+            add(what);
+        }
+    }
+
     @Override
     public void reset() {
         setWatchAll(false);
 
+        if (thresholds != null) {
+            for (var threshold : myThresholds) {
+                thresholds.remove(threshold);
+            }
+        }
+        myThresholds.clear();
+
         final Iterator<AEKey> i = this.myInterests.iterator();
 
         while (i.hasNext()) {
@@ -0,0 +1,53 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2023, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.profiling;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The samples recorded for a single grid.
+ */
+final class GridProfile {
+    final String label;
+    final Map<Class<?>, RollingStat> services = new HashMap<>();
+    final Map<Class<?>, RollingStat> machines = new HashMap<>();
+    final RollingStat craftingCalculations = new RollingStat();
+    final RollingStat storageInserts = new RollingStat();
+    final RollingStat storageExtracts = new RollingStat();
+    final RollingStat terminalBytes = new RollingStat();
+    long lastInsertCount = -1;
+    long lastExtractCount = -1;
+
+    GridProfile(String label) {
+        this.label = label;
+    }
+
+    /**
+     * @return Time in nanoseconds spent in services and crafting calculations of this grid during the window. Machine
+     *         ticks are not added separately, since they are part of the tick manager service.
+     */
+    long getTotalTime(long currentSecond, int windowSeconds) {
+        long result = craftingCalculations.sum(currentSecond, windowSeconds);
+        for (var stat : services.values()) {
+            result += stat.sum(currentSecond, windowSeconds);
+        }
+        return result;
+    }
+}
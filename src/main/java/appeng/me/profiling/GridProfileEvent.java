@@ -0,0 +1,53 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2023, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event emitted for every sample recorded by the {@link GridProfiler} while it is running.
+ */
+@Name("appeng.GridProfile")
+@Label("Grid Profile Sample")
+@Category("Applied Energistics 2")
+@Description("A sample recorded by the AE2 grid profiler")
+@StackTrace(false)
+class GridProfileEvent extends Event {
+    @Label("Grid")
+    String grid;
+
+    @Label("Category")
+    String category;
+
+    @Label("Source")
+    String source;
+
+    @Label("Time")
+    @Timespan
+    long time;
+
+    @Label("Amount")
+    long amount;
+}
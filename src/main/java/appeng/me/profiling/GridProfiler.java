@@ -0,0 +1,247 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2023, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.profiling;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import com.google.gson.stream.JsonWriter;
+
+import net.minecraft.network.chat.Component;
+
+import appeng.api.networking.IGrid;
+import appeng.core.localization.PlayerMessages;
+import appeng.hooks.ticking.TickHandler;
+
+/**
+ * Low-overhead profiler that aggregates the time spent by grid services, grid-ticked machines and crafting
+ * calculations, as well as network storage operations and terminal traffic, per grid into rolling windows. All
+ * samples are also emitted as {@link GridProfileEvent JFR events}, so they show up in flight recordings.
+ * <p/>
+ * Samples are only recorded while the profiler is running, and must be recorded on the server thread.
+ */
+public final class GridProfiler {
+    /**
+     * The window used for the chat report.
+     */
+    public static final int REPORT_WINDOW_SECONDS = 10;
+
+    private static volatile boolean enabled;
+    private static final Map<IGrid, GridProfile> PROFILES = new WeakHashMap<>();
+
+    private GridProfiler() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void start() {
+        PROFILES.clear();
+        enabled = true;
+    }
+
+    public static void stop() {
+        enabled = false;
+    }
+
+    public static void recordServiceTick(IGrid grid, Class<?> service, long nanos) {
+        var stat = getProfile(grid).services.computeIfAbsent(service, c -> new RollingStat());
+        stat.record(getCurrentSecond(), nanos);
+        emitEvent(grid, "service", service, nanos, 1);
+    }
+
+    public static void recordMachineTick(IGrid grid, Class<?> machine, long nanos) {
+        var stat = getProfile(grid).machines.computeIfAbsent(machine, c -> new RollingStat());
+        stat.record(getCurrentSecond(), nanos);
+        emitEvent(grid, "machine", machine, nanos, 1);
+    }
+
+    /**
+     * Records the time the server thread was blocked by a crafting calculation of this grid.
+     */
+    public static void recordCraftingCalculation(IGrid grid, long nanos) {
+        getProfile(grid).craftingCalculations.record(getCurrentSecond(), nanos);
+        emitEvent(grid, "crafting", null, nanos, 1);
+    }
+
+    /**
+     * Records the operations performed on the network storage since the last call.
+     *
+     * @param insertCount  Total number of insert operations performed so far.
+     * @param extractCount Total number of extract operations performed so far.
+     */
+    public static void recordStorageOperations(IGrid grid, long insertCount, long extractCount) {
+        var profile = getProfile(grid);
+        var second = getCurrentSecond();
+        if (profile.lastInsertCount >= 0) {
+            profile.storageInserts.record(second, insertCount - profile.lastInsertCount);
+            profile.storageExtracts.record(second, extractCount - profile.lastExtractCount);
+            emitEvent(grid, "storage_insert", null, 0, insertCount - profile.lastInsertCount);
+            emitEvent(grid, "storage_extract", null, 0, extractCount - profile.lastExtractCount);
+        }
+        profile.lastInsertCount = insertCount;
+        profile.lastExtractCount = extractCount;
+    }
+
+    public static void recordTerminalBytes(IGrid grid, int bytes) {
+        getProfile(grid).terminalBytes.record(getCurrentSecond(), bytes);
+        emitEvent(grid, "terminal_bytes", null, 0, bytes);
+    }
+
+    /**
+     * @return Chat lines describing the grids that took the most time in the last {@link #REPORT_WINDOW_SECONDS}.
+     */
+    public static List<Component> createReport(int maxGrids) {
+        var second = getCurrentSecond();
+        var ticks = REPORT_WINDOW_SECONDS * 20;
+
+        var profiles = new ArrayList<>(PROFILES.values());
+        profiles.sort(Comparator.comparingLong((GridProfile p) -> p.getTotalTime(second, REPORT_WINDOW_SECONDS))
+                .reversed());
+
+        var lines = new ArrayList<Component>();
+        for (int i = 0; i < Math.min(maxGrids, profiles.size()); i++) {
+            var profile = profiles.get(i);
+            lines.add(PlayerMessages.GridProfilerGrid.text(
+                    profile.label,
+                    formatMillisPerTick(profile.getTotalTime(second, REPORT_WINDOW_SECONDS), ticks),
+                    profile.storageInserts.sum(second, REPORT_WINDOW_SECONDS) / ticks,
+                    profile.storageExtracts.sum(second, REPORT_WINDOW_SECONDS) / ticks,
+                    profile.terminalBytes.sum(second, REPORT_WINDOW_SECONDS) / ticks));
+            addTopEntries(lines, PlayerMessages.GridProfilerService, profile.services, second, ticks);
+            addTopEntries(lines, PlayerMessages.GridProfilerMachine, profile.machines, second, ticks);
+            var craftingTime = profile.craftingCalculations.sum(second, REPORT_WINDOW_SECONDS);
+            if (craftingTime > 0) {
+                lines.add(indent(PlayerMessages.GridProfilerCrafting.text(formatMillisPerTick(craftingTime, ticks))));
+            }
+        }
+        return lines;
+    }
+
+    private static void addTopEntries(List<Component> lines, PlayerMessages message, Map<Class<?>, RollingStat> stats,
+            long second, int ticks) {
+        stats.entrySet().stream()
+                .filter(e -> e.getValue().sum(second, REPORT_WINDOW_SECONDS) > 0)
+                .sorted(Comparator.comparingLong(
+                        (Map.Entry<Class<?>, RollingStat> e) -> e.getValue().sum(second, REPORT_WINDOW_SECONDS))
+                        .reversed())
+                .limit(3)
+                .forEach(e -> lines.add(indent(message.text(e.getKey().getSimpleName(),
+                        formatMillisPerTick(e.getValue().sum(second, REPORT_WINDOW_SECONDS), ticks)))));
+    }
+
+    private static String formatMillisPerTick(long nanos, int ticks) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1e6 / ticks);
+    }
+
+    private static Component indent(Component line) {
+        return Component.literal("  ").append(line);
+    }
+
+    /**
+     * Writes all recorded samples as JSON, with totals for the last 10 and 60 seconds.
+     */
+    public static void writeJsonReport(Writer out) throws IOException {
+        var second = getCurrentSecond();
+        try (var writer = new JsonWriter(out)) {
+            writer.setIndent("  ");
+            writer.beginObject();
+            writer.name("tick").value(TickHandler.instance().getCurrentTick());
+            writer.name("grids").beginArray();
+            for (var profile : PROFILES.values()) {
+                writer.beginObject();
+                writer.name("grid").value(profile.label);
+                writeStats(writer, "services", profile.services, second);
+                writeStats(writer, "machines", profile.machines, second);
+                writeStat(writer, "craftingCalculations", profile.craftingCalculations, second);
+                writeStat(writer, "storageInserts", profile.storageInserts, second);
+                writeStat(writer, "storageExtracts", profile.storageExtracts, second);
+                writeStat(writer, "terminalBytes", profile.terminalBytes, second);
+                writer.endObject();
+            }
+            writer.endArray();
+            writer.endObject();
+        }
+    }
+
+    private static void writeStats(JsonWriter writer, String name, Map<Class<?>, RollingStat> stats, long second)
+            throws IOException {
+        writer.name(name).beginObject();
+        for (var entry : stats.entrySet()) {
+            writeStat(writer, entry.getKey().getName(), entry.getValue(), second);
+        }
+        writer.endObject();
+    }
+
+    private static void writeStat(JsonWriter writer, String name, RollingStat stat, long second) throws IOException {
+        writer.name(name).beginObject();
+        for (var window : new int[] { 10, RollingStat.SECONDS }) {
+            writer.name(window + "s").beginObject();
+            writer.name("total").value(stat.sum(second, window));
+            writer.name("samples").value(stat.count(second, window));
+            writer.endObject();
+        }
+        writer.endObject();
+    }
+
+    private static GridProfile getProfile(IGrid grid) {
+        var profile = PROFILES.get(grid);
+        if (profile == null) {
+            profile = new GridProfile(getLabel(grid));
+            PROFILES.put(grid, profile);
+        }
+        return profile;
+    }
+
+    private static String getLabel(IGrid grid) {
+        var label = grid.toString();
+        var pivot = grid.getPivot();
+        if (pivot != null) {
+            label += " (" + pivot + ")";
+        }
+        var owner = grid.getSecurityService().getOwner();
+        if (owner >= 0) {
+            label += " owned by player #" + owner;
+        }
+        return label;
+    }
+
+    private static long getCurrentSecond() {
+        return TickHandler.instance().getCurrentTick() / 20;
+    }
+
+    private static void emitEvent(IGrid grid, String category, Class<?> source, long nanos, long amount) {
+        var event = new GridProfileEvent();
+        if (event.isEnabled()) {
+            event.grid = grid.toString();
+            event.category = category;
+            event.source = source != null ? source.getName() : null;
+            event.time = nanos;
+            event.amount = amount;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2023, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.profiling;
+
+import java.util.Arrays;
+
+/**
+ * Sums values and occurrences into one-second buckets, covering the last {@link #SECONDS} seconds.
+ */
+final class RollingStat {
+    static final int SECONDS = 60;
+
+    private final long[] bucketSecond = new long[SECONDS];
+    private final long[] values = new long[SECONDS];
+    private final long[] counts = new long[SECONDS];
+
+    RollingStat() {
+        Arrays.fill(bucketSecond, -1);
+    }
+
+    void record(long second, long value) {
+        var bucket = (int) (second % SECONDS);
+        if (bucketSecond[bucket] != second) {
+            bucketSecond[bucket] = second;
+            values[bucket] = 0;
+            counts[bucket] = 0;
+        }
+        values[bucket] += value;
+        counts[bucket]++;
+    }
+
+    /**
+     * @return The sum of all values recorded in the given number of seconds up to and including the current second.
+     */
+    long sum(long currentSecond, int windowSeconds) {
+        long result = 0;
+        for (int i = 0; i < SECONDS; i++) {
+            if (isInWindow(i, currentSecond, windowSeconds)) {
+                result += values[i];
+            }
+        }
+        return result;
+    }
+
+    long count(long currentSecond, int windowSeconds) {
+        long result = 0;
+        for (int i = 0; i < SECONDS; i++) {
+            if (isInWindow(i, currentSecond, windowSeconds)) {
+                result += counts[i];
+            }
+        }
+        return result;
+    }
+
+    private boolean isInWindow(int bucket, long currentSecond, int windowSeconds) {
+        var second = bucketSecond[bucket];
+        return second >= 0 && second <= currentSecond && second > currentSecond - windowSeconds;
+    }
+}
@@ -26,10 +26,8 @@
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
-import java.util.concurrent.ThreadFactory;
 
 import javax.annotation.Nullable;
 
@@ -71,9 +69,12 @@
 import appeng.crafting.CraftingLink;
 import appeng.crafting.CraftingLinkNexus;
 import appeng.crafting.execution.CraftingSubmitResult;
+import appeng.hooks.ticking.TickHandler;
 import appeng.me.cluster.implementations.CraftingCPUCluster;
 import appeng.me.helpers.InterestManager;
 import appeng.me.helpers.StackWatcher;
+import appeng.me.service.helpers.CraftingCalculationExecutor;
+import appeng.me.service.helpers.CraftingPlanCache;
 import appeng.me.service.helpers.CraftingServiceStorage;
 import appeng.me.service.helpers.NetworkCraftingProviders;
 
@@ -95,17 +96,9 @@ public class CraftingService implements ICraftingService, IGridServiceProvider {
             .comparingInt(CraftingCPUCluster::getCoProcessors)
             .thenComparingLong(CraftingCPUCluster::getAvailableStorage);
 
-    private static final ExecutorService CRAFTING_POOL;
+    private static final CraftingCalculationExecutor CALCULATIONS = new CraftingCalculationExecutor();
 
     static {
-        final ThreadFactory factory = ar -> {
-            final Thread crafting = new Thread(ar, "AE Crafting Calculator");
-            crafting.setDaemon(true);
-            return crafting;
-        };
-
-        CRAFTING_POOL = Executors.newCachedThreadPool(factory);
-
         GridHelper.addGridServiceEventHandler(GridCraftingCpuChange.class, ICraftingService.class,
                 (service, event) -> {
                     ((CraftingService) service).updateList = true;
@@ -116,6 +109,7 @@ public class CraftingService implements ICraftingService, IGridServiceProvider {
     private final Map<IGridNode, StackWatcher<ICraftingWatcherNode>> craftingWatchers = new HashMap<>();
     private final IGrid grid;
     private final NetworkCraftingProviders craftingProviders = new NetworkCraftingProviders();
+    private final CraftingPlanCache planCache = new CraftingPlanCache();
     private final Map<UUID, CraftingLinkNexus> craftingLinks = new HashMap<>();
     private final Multimap<AEKey, StackWatcher<ICraftingWatcherNode>> interests = HashMultimap.create();
     private final InterestManager<StackWatcher<ICraftingWatcherNode>> interestManager = new InterestManager<>(
@@ -123,6 +117,11 @@ public class CraftingService implements ICraftingService, IGridServiceProvider {
     private final IEnergyService energyGrid;
     private final Set<AEKey> currentlyCrafting = new HashSet<>();
     private boolean updateList = false;
+    /**
+     * The version of the crafting block entities on the grid that {@link #craftingCPUClusters} were last collected
+     * from.
+     */
+    private int craftingBlocksVersion = -1;
 
     public CraftingService(IGrid grid, IStorageService storageGrid, IEnergyService energyGrid) {
         this.grid = grid;
@@ -133,13 +132,17 @@ public CraftingService(IGrid grid, IStorageService storageGrid, IEnergyService e
 
     @Override
     public void onServerEndTick() {
-        if (this.updateList) {
+        var blocksVersion = this.grid.getMachinesVersion(CraftingBlockEntity.class);
+        if (this.updateList || blocksVersion != this.craftingBlocksVersion) {
             this.updateList = false;
+            this.craftingBlocksVersion = blocksVersion;
             this.updateCPUClusters();
         }
 
         this.craftingLinks.values().removeIf(nexus -> nexus.isDead(this.grid, this));
 
+        CALCULATIONS.onServerEndTick(TickHandler.instance().getCurrentTick());
+
         var previouslyCrafting = new HashSet<>(currentlyCrafting);
         this.currentlyCrafting.clear();
         for (CraftingCPUCluster cpu : this.craftingCPUClusters) {
@@ -180,10 +183,6 @@ public void removeNode(IGridNode gridNode) {
         }
 
         this.craftingProviders.removeProvider(gridNode);
-
-        if (gridNode.getOwner() instanceof CraftingBlockEntity) {
-            this.updateList = true;
-        }
     }
 
     @Override
@@ -209,10 +208,6 @@ public void addNode(IGridNode gridNode) {
                 }
             }
         }
-
-        if (gridNode.getOwner() instanceof CraftingBlockEntity) {
-            this.updateList = true;
-        }
     }
 
     @Override
@@ -282,10 +277,26 @@ public Future<ICraftingPlan> beginCraftingCalculation(Level level, ICraftingSimu
             throw new IllegalArgumentException("Invalid Crafting Job Request");
         }
 
-        final CraftingCalculation job = new CraftingCalculation(level, grid, simRequester,
-                new GenericStack(what, amount), strategy);
+        // Automated requesters tend to ask for the same job over and over, so try reusing a previous plan
+        if (strategy == CalculationStrategy.CRAFT_LESS) {
+            var cachedPlan = planCache.find(what, amount, craftingProviders.getPatternVersion(),
+                    TickHandler.instance().getCurrentTick(), grid.getStorageService().getCachedInventory());
+            if (cachedPlan != null) {
+                return CompletableFuture.completedFuture(cachedPlan);
+            }
+        }
 
-        return CRAFTING_POOL.submit(job::run);
+        // Plans are only valid for the patterns they were calculated with
+        var patternVersion = craftingProviders.getPatternVersion();
+        return CALCULATIONS.submit(grid, simRequester, what, amount, strategy, () -> {
+            var calculation = new CraftingCalculation(level, grid, simRequester, new GenericStack(what, amount),
+                    strategy);
+            return () -> {
+                var plan = calculation.run();
+                planCache.onCalculated(plan, patternVersion);
+                return plan;
+            };
+        });
     }
 
     @Override
@@ -313,7 +324,11 @@ public ICraftingSubmitResult submitJob(ICraftingPlan job, ICraftingRequester req
             }
         }
 
-        return cpuCluster.submitJob(this.grid, job, src, requestingMachine);
+        var result = cpuCluster.submitJob(this.grid, job, src, requestingMachine);
+        if (result.successful() && requestingMachine != null) {
+            planCache.store(job, TickHandler.instance().getCurrentTick());
+        }
+        return result;
     }
 
     @Nullable
@@ -18,7 +18,9 @@
 
 package appeng.me.service;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Random;
 import java.util.stream.Stream;
 
@@ -58,6 +60,10 @@ public static P2PService get(IGrid grid) {
     private final IGrid myGrid;
     private final HashMap<Short, P2PTunnelPart> inputs = new HashMap<>();
     private final Multimap<Short, P2PTunnelPart> outputs = LinkedHashMultimap.create();
+    /**
+     * The outputs returned by {@link #getOutputList}, cached per frequency until a tunnel on that frequency changes.
+     */
+    private final HashMap<Short, CachedOutputs> cachedOutputs = new HashMap<>();
     private final Random frequencyGenerator;
 
     public P2PService(IGrid g) {
@@ -86,6 +92,7 @@ public void removeNode(IGridNode node) {
             } else {
                 this.inputs.remove(tunnel.getFrequency());
             }
+            this.cachedOutputs.remove(tunnel.getFrequency());
 
             this.updateTunnel(tunnel.getFrequency(), !tunnel.isOutput(), false);
         }
@@ -105,6 +112,7 @@ public void addNode(IGridNode node) {
             } else {
                 this.inputs.put(tunnel.getFrequency(), tunnel);
             }
+            this.cachedOutputs.remove(tunnel.getFrequency());
 
             this.updateTunnel(tunnel.getFrequency(), !tunnel.isOutput(), false);
         }
@@ -141,6 +149,8 @@ public void updateFreq(P2PTunnelPart t, short newFrequency) {
 
         var oldFrequency = t.getFrequency();
         t.setFrequency(newFrequency);
+        this.cachedOutputs.remove(oldFrequency);
+        this.cachedOutputs.remove(newFrequency);
 
         if (t.isOutput()) {
             this.outputs.put(t.getFrequency(), t);
@@ -173,19 +183,43 @@ public short newFrequency() {
     }
 
     public <T extends P2PTunnelPart<T>> Stream<T> getOutputs(short freq, Class<T> c) {
+        return getOutputList(freq, c).stream();
+    }
+
+    /**
+     * Same as {@link #getOutputs(short, Class)}, but returns an immutable list that is cached until the tunnels on the
+     * frequency change.
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends P2PTunnelPart<T>> List<T> getOutputList(short freq, Class<T> c) {
+        var cached = this.cachedOutputs.get(freq);
+        if (cached == null || cached.type != c) {
+            cached = new CachedOutputs(c, findOutputs(freq, c));
+            this.cachedOutputs.put(freq, cached);
+        }
+        return (List<T>) cached.outputs;
+    }
+
+    private <T extends P2PTunnelPart<T>> List<T> findOutputs(short freq, Class<T> c) {
         // Check that a matching input exists for the requested type
         var input = this.inputs.get(freq);
         if (!c.isInstance(input)) {
-            return Stream.empty();
+            return List.of();
         }
 
-        return this.outputs.get(freq)
-                .stream()
-                .filter(c::isInstance)
-                .map(c::cast);
+        var result = new ArrayList<T>();
+        for (var output : this.outputs.get(freq)) {
+            if (c.isInstance(output)) {
+                result.add(c.cast(output));
+            }
+        }
+        return List.copyOf(result);
     }
 
     public P2PTunnelPart getInput(short freq) {
         return this.inputs.get(freq);
     }
+
+    private record CachedOutputs(Class<?> type, List<?> outputs) {
+    }
 }
@@ -52,12 +52,17 @@ public class SecurityService implements ISecurityService, IGridServiceProvider {
     private final List<ISecurityProvider> securityProvider = new ArrayList<>();
     private final HashMap<Integer, EnumSet<SecurityPermissions>> playerPerms = new HashMap<>();
     private long securityKey = -1;
+    /**
+     * Incremented whenever the result of {@link #hasPermission} may change, for callers caching the results.
+     */
+    private int permissionsVersion;
 
     public SecurityService(IGrid g) {
         this.myGrid = g;
     }
 
     private void updatePermissions() {
+        this.permissionsVersion++;
         this.playerPerms.clear();
         if (this.securityProvider.isEmpty()) {
             return;
@@ -70,6 +75,10 @@ public long getSecurityKey() {
         return this.securityKey;
     }
 
+    public int getPermissionsVersion() {
+        return this.permissionsVersion;
+    }
+
     @Override
     public void removeNode(IGridNode gridNode) {
         var security = gridNode.getService(ISecurityProvider.class);
@@ -96,6 +105,7 @@ private void updateSecurityKey() {
         }
 
         if (lastCode != this.securityKey) {
+            this.permissionsVersion++;
             this.getGrid().postEvent(new GridSecurityChange());
             for (var n : this.getGrid().getNodes()) {
                 GridNode gridNode = (GridNode) n;
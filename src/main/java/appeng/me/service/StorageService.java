@@ -34,6 +34,7 @@
 
 import appeng.api.networking.IGridNode;
 import appeng.api.networking.IGridServiceProvider;
+import appeng.api.networking.security.IActionSource;
 import appeng.api.networking.security.ISecurityService;
 import appeng.api.networking.storage.IStorageService;
 import appeng.api.networking.storage.IStorageWatcherNode;
@@ -43,7 +44,9 @@
 import appeng.api.storage.IStorageProvider;
 import appeng.api.storage.MEStorage;
 import appeng.me.helpers.InterestManager;
+import appeng.me.helpers.StackThresholds;
 import appeng.me.helpers.StackWatcher;
+import appeng.me.service.helpers.NetworkInsertCapacities;
 import appeng.me.storage.NetworkStorage;
 
 public class StorageService implements IStorageService, IGridServiceProvider {
@@ -60,6 +63,7 @@ public class StorageService implements IStorageService, IGridServiceProvider {
     private final InterestManager<StackWatcher<IStorageWatcherNode>> interestManager = new InterestManager<>(
             this.interests);
     private final NetworkStorage storage;
+    private final NetworkInsertCapacities insertCapacities = new NetworkInsertCapacities();
     /**
      * Publicly exposed cached available stacks.
      */
@@ -71,6 +75,12 @@ public class StorageService implements IStorageService, IGridServiceProvider {
      */
     private final Object2LongMap<AEKey> cachedAvailableAmounts = new Object2LongOpenHashMap<>();
     private boolean cachedStacksNeedUpdate = true;
+    /**
+     * Thresholds registered by watchers that only want to know when a total crosses a level. Derived from
+     * {@link #cachedAvailableAmounts}.
+     */
+    private final StackThresholds<StackWatcher<IStorageWatcherNode>> thresholds = new StackThresholds<>(
+            cachedAvailableAmounts);
     /**
      * Tracks the stack watcher associated with a given grid node. Needed to clean up watchers when the node leaves the
      * grid.
@@ -78,12 +88,14 @@ public class StorageService implements IStorageService, IGridServiceProvider {
     private final Map<IGridNode, StackWatcher<IStorageWatcherNode>> watchers = new IdentityHashMap<>();
 
     public StorageService(ISecurityService security) {
-        this.storage = new NetworkStorage((SecurityService) security);
+        this.storage = new NetworkStorage((SecurityService) security, insertCapacities);
     }
 
     @Override
     public void onServerEndTick() {
-        if (interestManager.isEmpty()) {
+        insertCapacities.clear();
+
+        if (interestManager.isEmpty() && thresholds.isEmpty()) {
             // lazily rebuild cache list
             cachedStacksNeedUpdate = true;
         } else {
@@ -129,6 +141,13 @@ private void updateCachedStacks() {
     }
 
     private void postWatcherUpdate(AEKey what, long newAmount) {
+        // Must be called before cachedAvailableAmounts is updated, since thresholds track the difference
+        if (!thresholds.isEmpty()) {
+            var oldAmount = cachedAvailableAmounts.getLong(what);
+            for (var threshold : thresholds.onChange(what, oldAmount, newAmount)) {
+                threshold.getWatcher().getHost().onStackChange(threshold.getWhat(), threshold.getTotal());
+            }
+        }
         for (var watcher : interestManager.get(what)) {
             watcher.getHost().onStackChange(what, newAmount);
         }
@@ -152,7 +171,7 @@ public void addNode(IGridNode node) {
 
         var watcher = node.getService(IStorageWatcherNode.class);
         if (watcher != null) {
-            var iw = new StackWatcher<>(interestManager, watcher);
+            var iw = new StackWatcher<>(interestManager, thresholds, watcher);
             this.watchers.put(node, iw);
             watcher.updateWatcher(iw);
         }
@@ -231,6 +250,12 @@ public void refreshGlobalStorageProvider(IStorageProvider provider) {
     @Override
     public void invalidateCache() {
         cachedStacksNeedUpdate = true;
+        insertCapacities.clear();
+    }
+
+    @Override
+    public long simulateInsert(AEKey what, long amount, IActionSource source) {
+        return insertCapacities.simulateInsert(storage, what, amount, source);
     }
 
     /**
@@ -267,6 +292,7 @@ public void mount(MEStorage inventory, int priority) {
 
             // Mount this inventory into the network storage
             storage.mount(priority, inventory);
+            insertCapacities.clear();
         }
 
         public void update() {
@@ -288,6 +314,7 @@ public void unmount() {
 
         private void unmount(MEStorage inventory) {
             storage.unmount(inventory);
+            insertCapacities.clear();
         }
     }
 }
@@ -40,6 +40,7 @@
 import appeng.api.networking.ticking.ITickManager;
 import appeng.api.networking.ticking.TickRateModulation;
 import appeng.me.GridNode;
+import appeng.me.profiling.GridProfiler;
 import appeng.me.service.helpers.TickTracker;
 
 public class TickManagerService implements ITickManager, IGridServiceProvider {
@@ -354,7 +355,7 @@ private void updateQueuePosition(IGridNode node, TickTracker tt) {
     private TickRateModulation unsafeTickingRequest(TickTracker tt, int diff) {
         try {
             // Shortcut to immediately return when monitoring is disabled.
-            if (!MONITORING_ENABLED) {
+            if (!MONITORING_ENABLED && !GridProfiler.isEnabled()) {
                 return tt.getGridTickable().tickingRequest(tt.getNode(), diff);
             }
 
@@ -364,7 +365,13 @@ private TickRateModulation unsafeTickingRequest(TickTracker tt, int diff) {
 
             stopWatch.stop();
             var elapsedTime = stopWatch.elapsed(TimeUnit.NANOSECONDS);
-            tt.getStatistics().accept(elapsedTime);
+            if (MONITORING_ENABLED) {
+                tt.getStatistics().accept(elapsedTime);
+            }
+            if (GridProfiler.isEnabled()) {
+                GridProfiler.recordMachineTick(tt.getNode().getGrid(), tt.getNode().getOwner().getClass(),
+                        elapsedTime);
+            }
 
             return mod;
         } catch (Throwable t) {
@@ -0,0 +1,416 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2023, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.service.helpers;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import com.google.common.base.Throwables;
+
+import org.jetbrains.annotations.Nullable;
+
+import appeng.api.networking.IGrid;
+import appeng.api.networking.crafting.CalculationStrategy;
+import appeng.api.networking.crafting.ICraftingPlan;
+import appeng.api.networking.crafting.ICraftingSimulationRequester;
+import appeng.api.stacks.AEKey;
+import appeng.core.AEConfig;
+import appeng.crafting.CraftingCalculation;
+
+/**
+ * Runs crafting calculations on a bounded number of threads.
+ * <p/>
+ * Calculations that cannot start right away are queued. Calculations requested by players are started first, since
+ * someone is waiting for them in a terminal. The remaining calculations are queued per grid, and the grids take turns,
+ * so that a single network with many automated requests cannot starve the others. Since the calculations only progress
+ * while the server thread hands them a time slice (see {@link CraftingCalculation#simulateFor}), running more of them
+ * at once would not finish them any faster.
+ * <p/>
+ * A calculation is only created once it leaves the queue, on the server thread at the end of the next tick. Creating it
+ * takes a snapshot of the network inventory, which would otherwise be held in memory and go stale while queued. The pool
+ * thread that picked the calculation waits for its creation, which takes at most until the end of the current tick.
+ * This keeps the number of created calculations within the size of the pool, and calculations already spend most of
+ * their time waiting for the server thread anyway.
+ * <p/>
+ * Requests from machines for the same output on the same grid share a single calculation while it is queued or
+ * running. Each requester gets its own {@link Future}, and the calculation is only cancelled once all of them have been
+ * cancelled.
+ */
+public final class CraftingCalculationExecutor {
+    private final Object lock = new Object();
+    /**
+     * The queued calculations requested by players, which are started before any other calculation.
+     */
+    private final ArrayDeque<Calculation> interactiveQueue = new ArrayDeque<>();
+    /**
+     * The queued calculations of each grid, in the order in which the grids take turns.
+     */
+    private final LinkedHashMap<IGrid, ArrayDeque<Calculation>> queues = new LinkedHashMap<>();
+    /**
+     * The calculations that are queued or running on each grid.
+     */
+    private final Map<IGrid, Set<Calculation>> activeByGrid = new HashMap<>();
+    /**
+     * Calculations that later requests for the same output may join.
+     */
+    private final Map<SharedRequest, Calculation> shared = new HashMap<>();
+    /**
+     * Creations of calculations that left the queue, run by {@link #onServerEndTick}.
+     */
+    private final Queue<Runnable> pendingCreations = new ConcurrentLinkedQueue<>();
+    private final Supplier<Executor> poolFactory;
+    private final Executor serverThread;
+    @Nullable
+    private Executor pool;
+    private long lastServerTick = -1;
+
+    public CraftingCalculationExecutor() {
+        this.poolFactory = CraftingCalculationExecutor::createPool;
+        this.serverThread = pendingCreations::add;
+    }
+
+    /**
+     * @param poolFactory  Creates the pool running the calculations once the first one is submitted.
+     * @param serverThread Runs the creation of calculations on the server thread.
+     */
+    CraftingCalculationExecutor(Supplier<Executor> poolFactory, Executor serverThread) {
+        this.poolFactory = poolFactory;
+        this.serverThread = serverThread;
+    }
+
+    /**
+     * Queues a new calculation, or joins an equivalent one that is already queued or running.
+     *
+     * @param taskFactory Creates the calculation task if no existing one is joined. Called on the server thread after
+     *                    the calculation left the queue, while the returned task runs on the calculation pool.
+     */
+    public Future<ICraftingPlan> submit(IGrid grid, ICraftingSimulationRequester requester, AEKey what, long amount,
+            CalculationStrategy strategy, Supplier<Callable<ICraftingPlan>> taskFactory) {
+        var source = requester.getActionSource();
+        var interactive = source != null && source.player().isPresent();
+        var sharedRequest = source != null && !interactive
+                ? new SharedRequest(grid, what, amount, strategy)
+                : null;
+
+        synchronized (lock) {
+            if (sharedRequest != null) {
+                var existing = shared.get(sharedRequest);
+                if (existing != null && !existing.isDone()) {
+                    return existing.addHandle(requester);
+                }
+            }
+
+            var calculation = new Calculation(grid, sharedRequest, taskFactory);
+            if (sharedRequest != null) {
+                shared.put(sharedRequest, calculation);
+            }
+            activeByGrid.computeIfAbsent(grid, g -> new LinkedHashSet<>()).add(calculation);
+            if (interactive) {
+                interactiveQueue.add(calculation);
+            } else {
+                queues.computeIfAbsent(grid, g -> new ArrayDeque<>()).add(calculation);
+            }
+            var handle = calculation.addHandle(requester);
+
+            // Every submitted calculation gets one turn on the pool, which picks the next grid's calculation
+            getPool().execute(this::runNext);
+            return handle;
+        }
+    }
+
+    /**
+     * Cancels the calculations of requesters that were removed from their grid, or players that left the game. This
+     * includes the calculations of grids that were since merged into another grid or destroyed. Then creates the
+     * calculations that left the queue since the last tick.
+     * <p/>
+     * Every grid calls this at the end of the server tick, but only the first call of each tick does anything.
+     */
+    public void onServerEndTick(long currentTick) {
+        List<Handle> abandoned = null;
+        synchronized (lock) {
+            if (lastServerTick == currentTick) {
+                return;
+            }
+            lastServerTick = currentTick;
+
+            for (var active : activeByGrid.values()) {
+                for (var calculation : active) {
+                    for (var handle : calculation.handles) {
+                        if (handle.isAbandoned(calculation.grid)) {
+                            if (abandoned == null) {
+                                abandoned = new ArrayList<>();
+                            }
+                            abandoned.add(handle);
+                        }
+                    }
+                }
+            }
+        }
+
+        if (abandoned != null) {
+            for (var handle : abandoned) {
+                handle.cancel(true);
+            }
+        }
+
+        Runnable creation;
+        while ((creation = pendingCreations.poll()) != null) {
+            creation.run();
+        }
+    }
+
+    private Executor getPool() {
+        if (pool == null) {
+            pool = poolFactory.get();
+        }
+        return pool;
+    }
+
+    private static Executor createPool() {
+        var threadCount = AEConfig.instance().getCraftingCalculationThreads();
+        var threadNumber = new AtomicInteger();
+        final ThreadFactory factory = ar -> {
+            final Thread crafting = new Thread(ar, "AE Crafting Calculator #" + threadNumber.incrementAndGet());
+            crafting.setDaemon(true);
+            return crafting;
+        };
+        var executor = new ThreadPoolExecutor(threadCount, threadCount, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), factory);
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private void runNext() {
+        var calculation = pollNext();
+        if (calculation != null) {
+            calculation.task.run();
+            // Clear a cancellation interrupt that arrived after the calculation finished, so it does not affect the
+            // next calculation on this thread
+            Thread.interrupted();
+        }
+    }
+
+    @Nullable
+    private Calculation pollNext() {
+        synchronized (lock) {
+            Calculation interactive;
+            while ((interactive = interactiveQueue.poll()) != null) {
+                // Calculations cancelled while queued are skipped
+                if (!interactive.isDone()) {
+                    return interactive;
+                }
+            }
+
+            while (!queues.isEmpty()) {
+                var entry = queues.entrySet().iterator().next();
+                var grid = entry.getKey();
+                var queue = entry.getValue();
+                queues.remove(grid);
+
+                Calculation next = null;
+                while (next == null && !queue.isEmpty()) {
+                    var candidate = queue.poll();
+                    // Calculations cancelled while queued are skipped
+                    if (!candidate.isDone()) {
+                        next = candidate;
+                    }
+                }
+
+                // Move the grid to the end of the line
+                if (!queue.isEmpty()) {
+                    queues.put(grid, queue);
+                }
+                if (next != null) {
+                    return next;
+                }
+            }
+            return null;
+        }
+    }
+
+    private void onDone(Calculation calculation) {
+        synchronized (lock) {
+            if (calculation.sharedRequest != null) {
+                shared.remove(calculation.sharedRequest, calculation);
+            }
+            var active = activeByGrid.get(calculation.grid);
+            if (active != null && active.remove(calculation) && active.isEmpty()) {
+                activeByGrid.remove(calculation.grid);
+            }
+        }
+    }
+
+    private record SharedRequest(IGrid grid, AEKey what, long amount, CalculationStrategy strategy) {
+    }
+
+    private final class Calculation {
+        private final IGrid grid;
+        @Nullable
+        private final SharedRequest sharedRequest;
+        private final FutureTask<ICraftingPlan> task;
+        // Guarded by lock
+        private final List<Handle> handles = new ArrayList<>();
+
+        private Calculation(IGrid grid, @Nullable SharedRequest sharedRequest,
+                Supplier<Callable<ICraftingPlan>> taskFactory) {
+            this.grid = grid;
+            this.sharedRequest = sharedRequest;
+            this.task = new FutureTask<>(() -> {
+                var created = create(taskFactory);
+                if (created == null) {
+                    // Cancelled before it was created. The cancelled task discards this exception.
+                    throw new CancellationException();
+                }
+                return created.call();
+            }) {
+                @Override
+                protected void done() {
+                    onDone(Calculation.this);
+                }
+            };
+        }
+
+        /**
+         * Creates the calculation on the server thread and waits for it, blocking the calling pool thread until the end
+         * of the current server tick.
+         *
+         * @return The created calculation, or null if it was cancelled before it could be created.
+         */
+        @Nullable
+        private Callable<ICraftingPlan> create(Supplier<Callable<ICraftingPlan>> taskFactory) throws Exception {
+            // Calculations cancelled in the meantime are not created anymore
+            var created = new FutureTask<Callable<ICraftingPlan>>(() -> task.isDone() ? null : taskFactory.get());
+            serverThread.execute(created);
+            try {
+                return created.get();
+            } catch (InterruptedException e) {
+                created.cancel(false);
+                throw e;
+            } catch (ExecutionException e) {
+                Throwables.throwIfUnchecked(e.getCause());
+                throw e;
+            }
+        }
+
+        private boolean isDone() {
+            return task.isDone();
+        }
+
+        private Handle addHandle(ICraftingSimulationRequester requester) {
+            var handle = new Handle(this, requester);
+            handles.add(handle);
+            return handle;
+        }
+    }
+
+    /**
+     * The future of one requester of a possibly shared calculation.
+     */
+    private final class Handle implements Future<ICraftingPlan> {
+        private final Calculation calculation;
+        private final ICraftingSimulationRequester requester;
+        private volatile boolean cancelled;
+
+        private Handle(Calculation calculation, ICraftingSimulationRequester requester) {
+            this.calculation = calculation;
+            this.requester = requester;
+        }
+
+        private boolean isAbandoned(IGrid grid) {
+            var source = requester.getActionSource();
+            if (source == null) {
+                return false;
+            }
+            var machine = source.machine();
+            if (machine.isPresent()) {
+                var node = machine.get().getActionableNode();
+                return node == null || node.getGrid() != grid;
+            }
+            var player = source.player();
+            return player.isPresent() && player.get().isRemoved();
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelCalculation;
+            synchronized (lock) {
+                if (cancelled || calculation.isDone()) {
+                    return false;
+                }
+                cancelled = true;
+                calculation.handles.remove(this);
+                cancelCalculation = calculation.handles.isEmpty();
+            }
+
+            if (cancelCalculation) {
+                // Interrupting the calculation makes it stop the next time it checks whether it should pause
+                calculation.task.cancel(true);
+            }
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled || calculation.task.isCancelled();
+        }
+
+        @Override
+        public boolean isDone() {
+            return cancelled || calculation.isDone();
+        }
+
+        @Override
+        public ICraftingPlan get() throws InterruptedException, ExecutionException {
+            if (cancelled) {
+                throw new CancellationException();
+            }
+            return calculation.task.get();
+        }
+
+        @Override
+        public ICraftingPlan get(long timeout, TimeUnit unit)
+                throws InterruptedException, ExecutionException, TimeoutException {
+            if (cancelled) {
+                throw new CancellationException();
+            }
+            return calculation.task.get(timeout, unit);
+        }
+    }
+}
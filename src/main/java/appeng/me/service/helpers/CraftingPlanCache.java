@@ -0,0 +1,114 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2023, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.service.helpers;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.google.common.collect.MapMaker;
+
+import org.jetbrains.annotations.Nullable;
+
+import appeng.api.networking.crafting.ICraftingPlan;
+import appeng.api.stacks.AEKey;
+import appeng.api.stacks.KeyCounter;
+
+/**
+ * Remembers the crafting plans that were recently submitted on a grid, so that automated requesters (i.e. export
+ * busses and interfaces with crafting cards) asking for the same output again can reuse the plan instead of running a
+ * new crafting calculation.
+ * <p/>
+ * A cached plan is only reused while the patterns of the network have not changed, and the network still holds all the
+ * items the plan would extract. Plans also expire after a while, to pick up better plans if the network content
+ * changed in a way that allows crafting less.
+ */
+public class CraftingPlanCache {
+    private static final int MAX_ENTRIES = 64;
+    private static final long MAX_AGE_TICKS = 20 * 30;
+
+    private final Map<Request, Entry> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Request, Entry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    /**
+     * The pattern version each recently calculated plan was started with. Calculations finish on other threads, and
+     * plans that are never submitted are simply dropped by the garbage collector.
+     */
+    private final Map<ICraftingPlan, Integer> calculatedPatternVersions = new MapMaker().weakKeys().makeMap();
+
+    /**
+     * Remembers the pattern version that was current when the calculation of the given plan began. Can be called from
+     * any thread.
+     */
+    public void onCalculated(ICraftingPlan plan, int patternVersion) {
+        calculatedPatternVersions.put(plan, patternVersion);
+    }
+
+    /**
+     * Stores a plan that was just successfully submitted. Only plans passed to {@link #onCalculated} before are stored,
+     * so plans reused from this cache keep their original age.
+     */
+    public void store(ICraftingPlan plan, long currentTick) {
+        var patternVersion = calculatedPatternVersions.remove(plan);
+        if (patternVersion == null || plan.simulation()) {
+            return;
+        }
+
+        var output = plan.finalOutput();
+        entries.put(new Request(output.what(), output.amount()), new Entry(plan, patternVersion, currentTick));
+    }
+
+    /**
+     * Finds a cached plan for the given request that is still valid.
+     *
+     * @param networkInventory The current (cached) content of the network.
+     */
+    @Nullable
+    public ICraftingPlan find(AEKey what, long amount, int patternVersion, long currentTick,
+            KeyCounter networkInventory) {
+        var request = new Request(what, amount);
+        var entry = entries.get(request);
+        if (entry == null) {
+            return null;
+        }
+
+        if (entry.patternVersion != patternVersion || currentTick - entry.createdTick > MAX_AGE_TICKS) {
+            entries.remove(request);
+            return null;
+        }
+
+        // The plan is only usable if the network still has everything it extracts.
+        for (var used : entry.plan.usedItems()) {
+            if (networkInventory.get(used.getKey()) < used.getLongValue()) {
+                return null;
+            }
+        }
+
+        return entry.plan;
+    }
+
+    private record Request(AEKey what, long amount) {
+    }
+
+    private record Entry(ICraftingPlan plan, int patternVersion, long createdTick) {
+    }
+}
@@ -36,6 +36,10 @@ public class NetworkCraftingProviders {
      */
     private final KeyCounter craftableItemsList = new KeyCounter();
     private final Map<AEKey, Integer> emitableItems = new HashMap<>();
+    /**
+     * Incremented whenever patterns or emitable items are added or removed.
+     */
+    private int patternVersion;
 
     public void addProvider(IGridNode node) {
         var provider = node.getService(ICraftingProvider.class);
@@ -45,6 +49,7 @@ public void addProvider(IGridNode node) {
             }
             var state = new ProviderState(provider);
             state.mount(this);
+            patternVersion++;
             craftingProviders.put(node, state);
         }
     }
@@ -55,6 +60,7 @@ public void removeProvider(IGridNode node) {
             var state = craftingProviders.remove(node);
             if (state != null) {
                 state.unmount(this);
+                patternVersion++;
             }
         }
     }
@@ -100,6 +106,10 @@ public boolean canEmitFor(AEKey someItem) {
         return this.emitableItems.containsKey(someItem);
     }
 
+    public int getPatternVersion() {
+        return patternVersion;
+    }
+
     public Iterable<ICraftingProvider> getMediums(IPatternDetails key) {
         var mediumList = this.craftingMethods.get(key);
         return Objects.requireNonNullElse(mediumList, Collections.emptyList());
@@ -0,0 +1,91 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2023, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.service.helpers;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import appeng.api.config.Actionable;
+import appeng.api.networking.security.IActionSource;
+import appeng.api.stacks.AEKey;
+import appeng.api.storage.MEStorage;
+import appeng.me.storage.NetworkStorage;
+
+/**
+ * Remembers the results of simulated inserts into the network storage, per key and action source, until the end of the
+ * tick. Import buses simulate inserting every candidate they find, and each simulation walks all mounted storages.
+ * <p/>
+ * A result below the requested amount is the capacity for the key, otherwise it is only a lower bound. Inserting uses
+ * up capacity of the inserted key, but possibly also of other keys sharing the same storage, so only the rejections of
+ * other keys stay valid. Extracting and mounting or unmounting storage may free up capacity, and drops all results.
+ * Changes that bypass the network (i.e. behind storage buses) are only picked up in the next tick.
+ */
+public class NetworkInsertCapacities implements NetworkStorage.ChangeListener {
+    private final Map<Request, Capacity> capacities = new HashMap<>();
+
+    public long simulateInsert(MEStorage storage, AEKey what, long amount, IActionSource source) {
+        var request = new Request(what, source);
+        var capacity = capacities.get(request);
+        if (capacity != null && (capacity.exact() || capacity.amount() >= amount)) {
+            return Math.min(amount, capacity.amount());
+        }
+
+        var inserted = storage.insert(what, amount, Actionable.SIMULATE, source);
+        capacities.put(request, new Capacity(inserted, inserted < amount));
+        return inserted;
+    }
+
+    @Override
+    public void onInserted(AEKey what, long amount) {
+        if (capacities.isEmpty()) {
+            return;
+        }
+        var it = capacities.entrySet().iterator();
+        while (it.hasNext()) {
+            var entry = it.next();
+            var capacity = entry.getValue();
+            if (capacity.amount() == 0) {
+                continue;
+            }
+            if (entry.getKey().what().equals(what)) {
+                entry.setValue(new Capacity(Math.max(0, capacity.amount() - amount), capacity.exact()));
+            } else {
+                it.remove();
+            }
+        }
+    }
+
+    @Override
+    public void onExtracted(AEKey what, long amount) {
+        capacities.clear();
+    }
+
+    public void clear() {
+        capacities.clear();
+    }
+
+    private record Request(AEKey what, IActionSource source) {
+    }
+
+    /**
+     * @param exact If false, amount is only a lower bound for the capacity.
+     */
+    private record Capacity(long amount, boolean exact) {
+    }
+}
@@ -3,6 +3,7 @@
 import java.util.Map;
 import java.util.Objects;
 
+import net.fabricmc.fabric.api.util.TriState;
 import net.minecraft.network.chat.Component;
 
 import appeng.api.config.Actionable;
@@ -39,6 +40,15 @@ public boolean isPreferredStorageFor(AEKey what, IActionSource source) {
         return storage != null && storage.isPreferredStorageFor(what, source);
     }
 
+    @Override
+    public TriState contains(AEKey what) {
+        if (cache.contains(what)) {
+            return TriState.TRUE;
+        }
+        // The cache may be missing keys that were inserted since it was last built
+        return forceCacheRebuild ? TriState.DEFAULT : TriState.FALSE;
+    }
+
     @Override
     public long insert(AEKey what, long amount, Actionable mode, IActionSource source) {
         var storage = storages.get(what.getType());
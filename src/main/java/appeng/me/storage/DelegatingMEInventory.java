@@ -2,6 +2,7 @@
 
 import java.util.Objects;
 
+import net.fabricmc.fabric.api.util.TriState;
 import net.minecraft.network.chat.Component;
 
 import appeng.api.config.Actionable;
@@ -16,7 +17,7 @@
  * <p/>
  * If no delegate is set, it will act like a {@link NullInventory}.
  */
-public class DelegatingMEInventory implements MEStorage {
+public class DelegatingMEInventory implements MEStorage, IOffThreadReadable {
     private MEStorage delegate;
 
     public DelegatingMEInventory(MEStorage delegate) {
@@ -36,6 +37,11 @@ public boolean isPreferredStorageFor(AEKey input, IActionSource source) {
         return delegate.isPreferredStorageFor(input, source);
     }
 
+    @Override
+    public TriState contains(AEKey what) {
+        return delegate.contains(what);
+    }
+
     @Override
     public long insert(AEKey what, long amount, Actionable mode, IActionSource source) {
         return delegate.insert(what, amount, mode, source);
@@ -56,6 +62,11 @@ public KeyCounter getAvailableStacks() {
         return delegate.getAvailableStacks();
     }
 
+    @Override
+    public boolean canReadOffThread() {
+        return IOffThreadReadable.canReadOffThread(delegate);
+    }
+
     @Override
     public Component getDescription() {
         return delegate.getDescription();
@@ -0,0 +1,41 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2023, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.storage;
+
+import appeng.api.stacks.KeyCounter;
+import appeng.api.storage.MEStorage;
+
+/**
+ * Implemented by {@link MEStorage} whose {@link MEStorage#getAvailableStacks(KeyCounter)} only reads in-memory state,
+ * and which can thus be queried from a worker thread while the server thread waits for the result. This is used by
+ * {@link NetworkStorage} to rebuild the content of large networks in parallel.
+ */
+public interface IOffThreadReadable {
+
+    /**
+     * @return True if {@link MEStorage#getAvailableStacks(KeyCounter)} can <em>currently</em> be called off-thread. It
+     *         must neither touch the world nor lazily initialize state that is shared with the server thread.
+     */
+    boolean canReadOffThread();
+
+    static boolean canReadOffThread(MEStorage storage) {
+        return storage instanceof IOffThreadReadable readable && readable.canReadOffThread();
+    }
+
+}
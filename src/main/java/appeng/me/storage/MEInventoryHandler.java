@@ -18,6 +18,8 @@
 
 package appeng.me.storage;
 
+import net.fabricmc.fabric.api.util.TriState;
+
 import appeng.api.config.Actionable;
 import appeng.api.config.IncludeExclude;
 import appeng.api.networking.security.IActionSource;
@@ -127,15 +129,23 @@ public boolean isPreferredStorageFor(AEKey input, IActionSource source) {
             }
         }
 
-        // Inventories that already contain some equal stack are also preferred
-        // we use a copy of size 1 here to prevent inventories from attempting to query multiple sub-inventories
-        if (super.extract(input, 1, Actionable.SIMULATE, source) > 0) {
+        // Inventories that already contain some equal stack are also preferred, but only if they can tell cheaply.
+        // Probing other inventories with a simulated extraction is too expensive to do for every insert.
+        if (super.contains(input) == TriState.TRUE) {
             return true;
         }
 
         return super.isPreferredStorageFor(input, source);
     }
 
+    @Override
+    public TriState contains(AEKey what) {
+        if (!canExtract(what)) {
+            return TriState.FALSE;
+        }
+        return super.contains(what);
+    }
+
     protected boolean canExtract(AEKey request) {
         return allowExtraction && passesBlackOrWhitelist(request);
     }
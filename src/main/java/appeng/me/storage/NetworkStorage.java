@@ -25,13 +25,20 @@
 import java.util.List;
 import java.util.NavigableMap;
 import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 
 import javax.annotation.Nullable;
 
 import com.google.common.base.Preconditions;
 
+import net.fabricmc.fabric.api.util.TriState;
 import net.minecraft.network.chat.Component;
 
+import it.unimi.dsi.fastutil.longs.Long2BooleanOpenHashMap;
+
 import appeng.api.config.Actionable;
 import appeng.api.config.SecurityPermissions;
 import appeng.api.networking.security.IActionSource;
@@ -39,34 +46,82 @@
 import appeng.api.stacks.KeyCounter;
 import appeng.api.storage.MEStorage;
 import appeng.core.localization.GuiText;
+import appeng.hooks.ticking.TickHandler;
 import appeng.me.service.SecurityService;
 
 /**
  * Manages all available {@link MEStorage} on the network.
  */
 public class NetworkStorage implements MEStorage {
-    private static final ThreadLocal<Deque<NetworkStorage>> DEPTH_MOD = new ThreadLocal<>();
-    private static final ThreadLocal<Deque<NetworkStorage>> DEPTH_SIM = new ThreadLocal<>();
+    /**
+     * The networks whose available stacks are currently being collected, to visit each network only once per pass.
+     */
+    private static final ThreadLocal<Deque<NetworkStorage>> ITERATION_DEPTH = new ThreadLocal<>();
     private static final Comparator<Integer> PRIORITY_SORTER = (o1, o2) -> Integer.compare(o2, o1);
+    /**
+     * Below this many storages that can be read off-thread, dispatching to {@link #REBUILD_POOL} costs more than it
+     * saves.
+     */
+    private static final int PARALLEL_REBUILD_THRESHOLD = 32;
+    private static final int PARALLEL_REBUILD_BATCH_SIZE = 16;
+    private static final ExecutorService REBUILD_POOL;
+
+    static {
+        final ThreadFactory factory = ar -> {
+            final Thread rebuild = new Thread(ar, "AE Network Storage Rebuild");
+            rebuild.setDaemon(true);
+            return rebuild;
+        };
+
+        REBUILD_POOL = Executors.newFixedThreadPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1),
+                factory);
+    }
 
     private boolean mountsInUse;
 
     private static int currentPass = 0;
 
     private final SecurityService security;
+    private final ChangeListener listener;
     private final NavigableMap<Integer, List<MEStorage>> priorityInventory;
     private final List<MEStorage> secondPassInventories = new ArrayList<>();
+    // Scratch lists used to split the mounts when rebuilding the available stacks
+    private final List<MEStorage> offThreadInventories = new ArrayList<>();
+    private final List<MEStorage> mainThreadInventories = new ArrayList<>();
     private int myPass = 0;
+    // Number of modulating/simulating operations on this network that are in progress. Storage buses can lead back
+    // into a network through subnets, which has to be stopped to prevent infinite recursion.
+    private int modulateDepth;
+    private int simulateDepth;
+    /**
+     * Results of permission checks for machines on other grids, keyed by player id and permission. They are reset every
+     * tick and when the permissions of this grid change.
+     */
+    private final Long2BooleanOpenHashMap permissionCache = new Long2BooleanOpenHashMap();
+    private long permissionCacheTick = -1;
+    private int permissionCacheVersion = -1;
     // Queued mount/unmount operations that occurred while an insert/extract was ongoing
     // Is only non-null if something is queued
     @Nullable
     private List<QueuedOperation> queuedOperations;
+    // Number of insert/extract calls, reported to the grid profiler
+    private long insertCount;
+    private long extractCount;
 
-    public NetworkStorage(SecurityService security) {
+    public NetworkStorage(SecurityService security, ChangeListener listener) {
         this.security = security;
+        this.listener = listener;
         this.priorityInventory = new TreeMap<>(PRIORITY_SORTER);
     }
 
+    public long getInsertCount() {
+        return insertCount;
+    }
+
+    public long getExtractCount() {
+        return extractCount;
+    }
+
     public void mount(int priority, MEStorage inventory) {
         if (mountsInUse) {
             if (queuedOperations == null) {
@@ -99,6 +154,7 @@ public void unmount(MEStorage inventory) {
     }
 
     public long insert(AEKey what, long amount, Actionable type, IActionSource src) {
+        this.insertCount++;
         if (this.diveList(type)) {
             return 0;
         }
@@ -154,7 +210,11 @@ public long insert(AEKey what, long amount, Actionable type, IActionSource src)
 
         flushQueuedOperations();
 
-        return amount - remaining;
+        var inserted = amount - remaining;
+        if (type == Actionable.MODULATE && inserted > 0) {
+            listener.onInserted(what, inserted);
+        }
+        return inserted;
     }
 
     private void flushQueuedOperations() {
@@ -186,16 +246,26 @@ private boolean isQueuedForRemoval(MEStorage inv) {
     }
 
     private boolean diveList(Actionable type) {
-        var cDepth = this.getDepth(type);
-        if (cDepth.contains(this)) {
-            return true;
+        if (type == Actionable.MODULATE) {
+            if (modulateDepth > 0) {
+                return true;
+            }
+            modulateDepth++;
+        } else {
+            if (simulateDepth > 0) {
+                return true;
+            }
+            simulateDepth++;
         }
-
-        cDepth.push(this);
         return false;
     }
 
     private boolean isPermissionDenied(IActionSource src, SecurityPermissions permission) {
+        if (!this.security.isAvailable()) {
+            // Without a security station, everything is permitted
+            return false;
+        }
+
         if (src.player().isPresent()) {
             if (!this.security.hasPermission(src.player().get(), permission)) {
                 return true;
@@ -213,7 +283,7 @@ private boolean isPermissionDenied(IActionSource src, SecurityPermissions permis
                 // If the subnet has a security station, check for its owner. Else check for the owner of the grid node.
                 var playerID = sg.isAvailable() ? sg.getOwner() : sourceNode.getOwningPlayerId();
 
-                if (!this.security.hasPermission(playerID, permission)) {
+                if (!this.hasCachedPermission(playerID, permission)) {
                     return true;
                 }
             }
@@ -222,25 +292,33 @@ private boolean isPermissionDenied(IActionSource src, SecurityPermissions permis
         return false;
     }
 
-    private void surface(Actionable type) {
-        if (getDepth(type).pop() != this) {
-            throw new IllegalStateException("Invalid Access to Networked Storage API detected.");
+    private boolean hasCachedPermission(int playerID, SecurityPermissions permission) {
+        var currentTick = TickHandler.instance().getCurrentTick();
+        var version = this.security.getPermissionsVersion();
+        if (permissionCacheTick != currentTick || permissionCacheVersion != version) {
+            permissionCache.clear();
+            permissionCacheTick = currentTick;
+            permissionCacheVersion = version;
         }
-    }
-
-    private Deque<NetworkStorage> getDepth(Actionable type) {
-        var depth = type == Actionable.MODULATE ? DEPTH_MOD : DEPTH_SIM;
 
-        var s = depth.get();
-
-        if (s == null) {
-            depth.set(s = new ArrayDeque<>());
+        var key = (long) playerID << 8 | permission.ordinal();
+        if (permissionCache.containsKey(key)) {
+            return permissionCache.get(key);
         }
+        var result = this.security.hasPermission(playerID, permission);
+        permissionCache.put(key, result);
+        return result;
+    }
 
-        return s;
+    private void surface(Actionable type) {
+        var depth = type == Actionable.MODULATE ? --modulateDepth : --simulateDepth;
+        if (depth < 0) {
+            throw new IllegalStateException("Invalid Access to Networked Storage API detected.");
+        }
     }
 
     public long extract(AEKey what, long amount, Actionable mode, IActionSource source) {
+        this.extractCount++;
         if (this.diveList(mode)) {
             return 0;
         }
@@ -274,26 +352,144 @@ public long extract(AEKey what, long amount, Actionable mode, IActionSource sour
 
         flushQueuedOperations();
 
+        if (mode == Actionable.MODULATE && extracted > 0) {
+            listener.onExtracted(what, extracted);
+        }
         return extracted;
     }
 
+    /**
+     * Extracts all the given amounts at once, visiting every mount of the network only once instead of once per key.
+     * Mounts are visited in the same order as {@link #extract}, and those that report not containing a key are skipped
+     * for it.
+     *
+     * @param extracted Receives the amounts that were actually extracted.
+     */
+    public void extractAll(KeyCounter request, IActionSource source, KeyCounter extracted) {
+        this.extractCount++;
+        if (this.diveList(Actionable.MODULATE)) {
+            return;
+        }
+
+        if (this.isPermissionDenied(source, SecurityPermissions.EXTRACT)) {
+            this.surface(Actionable.MODULATE);
+            return;
+        }
+
+        var remaining = new KeyCounter();
+        remaining.addAll(request);
+        remaining.removeZeros();
+
+        this.mountsInUse = true;
+        try {
+            for (var invList : this.priorityInventory.descendingMap().values()) {
+                for (var inv : invList) {
+                    if (remaining.isEmpty()) {
+                        break;
+                    }
+
+                    if (isQueuedForRemoval(inv)) {
+                        continue;
+                    }
+
+                    for (var entry : remaining) {
+                        if (inv.contains(entry.getKey()) == TriState.FALSE) {
+                            continue;
+                        }
+
+                        var amount = inv.extract(entry.getKey(), entry.getLongValue(), Actionable.MODULATE, source);
+                        if (amount > 0) {
+                            entry.setValue(entry.getLongValue() - amount);
+                            extracted.add(entry.getKey(), amount);
+                            listener.onExtracted(entry.getKey(), amount);
+                        }
+                    }
+                    remaining.removeZeros();
+                }
+            }
+        } finally {
+            this.mountsInUse = false;
+        }
+
+        this.surface(Actionable.MODULATE);
+
+        flushQueuedOperations();
+    }
+
     @Override
     public void getAvailableStacks(KeyCounter out) {
-        if (diveIteration(Actionable.SIMULATE)) {
+        if (diveIteration()) {
             return;
         }
 
         for (var i : this.priorityInventory.values()) {
             for (var j : i) {
-                j.getAvailableStacks(out);
+                if (IOffThreadReadable.canReadOffThread(j)) {
+                    offThreadInventories.add(j);
+                } else {
+                    mainThreadInventories.add(j);
+                }
+            }
+        }
+
+        try {
+            if (offThreadInventories.size() < PARALLEL_REBUILD_THRESHOLD) {
+                for (var inv : offThreadInventories) {
+                    inv.getAvailableStacks(out);
+                }
+                for (var inv : mainThreadInventories) {
+                    inv.getAvailableStacks(out);
+                }
+            } else {
+                getAvailableStacksParallel(out);
             }
+        } finally {
+            offThreadInventories.clear();
+            mainThreadInventories.clear();
         }
 
-        this.surface(Actionable.SIMULATE);
+        this.surfaceIteration();
     }
 
-    private boolean diveIteration(Actionable type) {
-        var cDepth = this.getDepth(type);
+    /**
+     * Lets the storages that only hold in-memory state (i.e. storage cells) count their content into partial counters
+     * on the worker pool, while the server thread walks the world-backed storages. The partial counters are merged on
+     * the server thread afterwards. Nothing can modify the cells concurrently since the server thread doesn't return
+     * before all partial results are in, even if a world-backed storage throws. The workers get copies of their
+     * batches, since the lists they are taken from are reused.
+     */
+    private void getAvailableStacksParallel(KeyCounter out) {
+        var batchCount = (offThreadInventories.size() + PARALLEL_REBUILD_BATCH_SIZE - 1) / PARALLEL_REBUILD_BATCH_SIZE;
+        var partialResults = new ArrayList<CompletableFuture<KeyCounter>>(batchCount);
+        for (int start = 0; start < offThreadInventories.size(); start += PARALLEL_REBUILD_BATCH_SIZE) {
+            var end = Math.min(start + PARALLEL_REBUILD_BATCH_SIZE, offThreadInventories.size());
+            var batch = List.copyOf(offThreadInventories.subList(start, end));
+            partialResults.add(CompletableFuture.supplyAsync(() -> {
+                var partial = new KeyCounter();
+                for (var inv : batch) {
+                    inv.getAvailableStacks(partial);
+                }
+                return partial;
+            }, REBUILD_POOL));
+        }
+
+        try {
+            for (var inv : mainThreadInventories) {
+                inv.getAvailableStacks(out);
+            }
+        } finally {
+            for (var partialResult : partialResults) {
+                out.addAll(partialResult.join());
+            }
+        }
+    }
+
+    private boolean diveIteration() {
+        var cDepth = ITERATION_DEPTH.get();
+        if (cDepth == null) {
+            ITERATION_DEPTH.set(cDepth = new ArrayDeque<>());
+        }
+
         if (cDepth.isEmpty()) {
             currentPass++;
         } else if (currentPass == this.myPass) {
@@ -302,14 +498,31 @@ private boolean diveIteration(Actionable type) {
         this.myPass = currentPass;
 
         cDepth.push(this);
+        simulateDepth++;
         return false;
     }
 
+    private void surfaceIteration() {
+        if (ITERATION_DEPTH.get().pop() != this) {
+            throw new IllegalStateException("Invalid Access to Networked Storage API detected.");
+        }
+        surface(Actionable.SIMULATE);
+    }
+
     @Override
     public Component getDescription() {
         return GuiText.MENetworkStorage.text();
     }
 
+    /**
+     * Notified after content was inserted into or extracted from the network.
+     */
+    public interface ChangeListener {
+        void onInserted(AEKey what, long amount);
+
+        void onExtracted(AEKey what, long amount);
+    }
+
     sealed interface QueuedOperation permits MountOperation,UnmountOperation {
     }
 
@@ -74,6 +74,7 @@
 import appeng.core.sync.packets.MEInventoryUpdatePacket;
 import appeng.helpers.InventoryAction;
 import appeng.me.helpers.ChannelPowerSrc;
+import appeng.me.profiling.GridProfiler;
 import appeng.menu.AEBaseMenu;
 import appeng.menu.SlotSemantics;
 import appeng.menu.ToolboxMenu;
@@ -287,7 +288,14 @@ public void broadcastChanges() {
                             .builder(containerId, updateHelper.isFullUpdate());
                     builder.setFilter(this::isKeyVisible);
                     builder.addChanges(updateHelper, availableStacks, craftables, requestables);
-                    builder.buildAndSend(this::sendPacketToClient);
+                    var packets = builder.build();
+                    // Measure the packets before sending them, since sending may release their buffers
+                    if (GridProfiler.isEnabled()) {
+                        recordPacketBytes(packets);
+                    }
+                    for (var packet : packets) {
+                        sendPacketToClient(packet);
+                    }
                     updateHelper.commitChanges();
                 }
 
@@ -311,12 +319,29 @@ protected boolean showsCraftables() {
         return true;
     }
 
-    private Set<AEKey> getCraftablesFromGrid() {
+    private void recordPacketBytes(List<MEInventoryUpdatePacket> packets) {
+        var hostNode = getHostNode();
+        if (hostNode != null && hostNode.isActive()) {
+            var bytes = 0;
+            for (var packet : packets) {
+                bytes += packet.getPayloadSize();
+            }
+            GridProfiler.recordTerminalBytes(hostNode.getGrid(), bytes);
+        }
+    }
+
+    @Nullable
+    private IGridNode getHostNode() {
         IGridNode hostNode = networkNode;
         // Wireless terminals do not directly expose the target grid (even though they have one)
         if (hostNode == null && host instanceof IActionHost actionHost) {
             hostNode = actionHost.getActionableNode();
         }
+        return hostNode;
+    }
+
+    private Set<AEKey> getCraftablesFromGrid() {
+        var hostNode = getHostNode();
         if (!showsCraftables()) {
             return Collections.emptySet();
         }
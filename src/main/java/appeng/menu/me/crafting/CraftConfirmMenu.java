@@ -70,6 +70,13 @@ public class CraftConfirmMenu extends AEBaseMenu implements ISubMenu {
     private static final String ACTION_CYCLE_CPU = "cycleCpu";
     private static final String ACTION_START_JOB = "startJob";
     private static final String ACTION_REPLAN = "replan";
+    private static final String ACTION_REQUEST_PLAN_PAGE = "requestPlanPage";
+
+    /**
+     * The number of plan entries sent to the client at once. Covers a few screens worth of entries, so that the client
+     * only has to request more when scrolling further.
+     */
+    public static final int PLAN_PAGE_SIZE = 60;
 
     private static final SyncableSubmitResult NO_ERROR = new SyncableSubmitResult((ICraftingSubmitResult) null);
 
@@ -104,7 +111,13 @@ public class CraftConfirmMenu extends AEBaseMenu implements ISubMenu {
     @GuiSync(8)
     public SyncableSubmitResult submitError = NO_ERROR;
 
+    /**
+     * On the server, this is the full summary of the plan. On the client, it only contains the last page of entries
+     * that was received.
+     */
     private CraftingPlanSummary plan;
+    // The first plan entry the client wants to be sent
+    private int requestedFirstEntry;
 
     private final ITerminalHost host;
 
@@ -130,6 +143,7 @@ public CraftConfirmMenu(int id, Inventory ip, ITerminalHost te) {
         registerClientAction(ACTION_CYCLE_CPU, Boolean.class, this::cycleSelectedCPU);
         registerClientAction(ACTION_START_JOB, this::startJob);
         registerClientAction(ACTION_REPLAN, this::replan);
+        registerClientAction(ACTION_REQUEST_PLAN_PAGE, Integer.class, this::requestPlanPage);
     }
 
     /**
@@ -231,7 +245,7 @@ public void broadcastChanges() {
 
                 this.plan = CraftingPlanSummary.fromJob(getGrid(), getActionSrc(), this.result);
 
-                sendPacketToClient(new CraftConfirmPlanPacket(plan));
+                sendPlanPage();
             } catch (Throwable e) {
                 this.getPlayerInventory().player.sendSystemMessage(Component.literal("Error: " + e));
                 AELog.debug(e);
@@ -244,6 +258,35 @@ public void broadcastChanges() {
         this.verifyPermissions(SecurityPermissions.CRAFT, false);
     }
 
+    /**
+     * Requests the page of plan entries starting at the given entry to be sent to the client.
+     */
+    public void requestPlanPage(int firstEntry) {
+        if (isClientSide()) {
+            this.requestedFirstEntry = firstEntry;
+            sendClientAction(ACTION_REQUEST_PLAN_PAGE, firstEntry);
+            return;
+        }
+
+        this.requestedFirstEntry = Math.max(0, firstEntry);
+        if (this.plan != null) {
+            sendPlanPage();
+        }
+    }
+
+    /**
+     * @return The first plan entry that was last requested from the server.
+     */
+    public int getRequestedFirstEntry() {
+        return this.requestedFirstEntry;
+    }
+
+    private void sendPlanPage() {
+        // Clamp to the last page, since a new plan may have less entries than the previous one
+        var firstEntry = Math.min(requestedFirstEntry, Math.max(0, plan.getEntryCount() - PLAN_PAGE_SIZE));
+        sendPacketToClient(new CraftConfirmPlanPacket(plan.getPage(firstEntry, PLAN_PAGE_SIZE)));
+    }
+
     private IGrid getGrid() {
         final IActionHost h = (IActionHost) this.getTarget();
         final IGridNode a = h.getActionableNode();
@@ -351,7 +394,7 @@ public void setJob(Future<ICraftingPlan> job) {
 
     /**
      * @return The summary of the crafting plan. This is null as long as the plan has not yet finished computing, or it
-     *         wasn't synced to the client yet.
+     *         wasn't synced to the client yet. On the client, it only contains the entries of the requested page.
      */
     @Nullable
     public CraftingPlanSummary getPlan() {
@@ -33,7 +33,8 @@
 import appeng.api.stacks.AEKey;
 
 /**
- * A crafting plan intended to be sent to the client.
+ * A crafting plan intended to be sent to the client. The full summary stays on the server, and only pages of its
+ * entries are sent to the client (see {@link #getPage}).
  */
 public class CraftingPlanSummary {
 
@@ -47,11 +48,28 @@ public class CraftingPlanSummary {
      */
     private final boolean simulation;
 
+    /**
+     * The total number of entries in the plan, which can be more than the entries in this summary.
+     */
+    private final int entryCount;
+
+    /**
+     * The index of the first entry of {@link #entries} in the full plan.
+     */
+    private final int firstEntry;
+
     private final List<CraftingPlanSummaryEntry> entries;
 
     public CraftingPlanSummary(long usedBytes, boolean simulation, List<CraftingPlanSummaryEntry> entries) {
+        this(usedBytes, simulation, entries.size(), 0, entries);
+    }
+
+    private CraftingPlanSummary(long usedBytes, boolean simulation, int entryCount, int firstEntry,
+            List<CraftingPlanSummaryEntry> entries) {
         this.usedBytes = usedBytes;
         this.simulation = simulation;
+        this.entryCount = entryCount;
+        this.firstEntry = firstEntry;
         this.entries = entries;
     }
 
@@ -63,13 +81,36 @@ public boolean isSimulation() {
         return simulation;
     }
 
+    public int getEntryCount() {
+        return entryCount;
+    }
+
+    public int getFirstEntry() {
+        return firstEntry;
+    }
+
+    /**
+     * @return The entries contained in this summary, starting at {@link #getFirstEntry()} in the full plan.
+     */
     public List<CraftingPlanSummaryEntry> getEntries() {
         return entries;
     }
 
+    /**
+     * @return A summary with the same properties, but only up to {@code count} entries starting at {@code firstEntry}.
+     */
+    public CraftingPlanSummary getPage(int firstEntry, int count) {
+        var from = Math.max(0, Math.min(firstEntry - this.firstEntry, entries.size()));
+        var to = Math.min(entries.size(), from + count);
+        return new CraftingPlanSummary(usedBytes, simulation, entryCount, this.firstEntry + from,
+                entries.subList(from, to));
+    }
+
     public void write(FriendlyByteBuf buffer) {
         buffer.writeVarLong(usedBytes);
         buffer.writeBoolean(simulation);
+        buffer.writeVarInt(entryCount);
+        buffer.writeVarInt(firstEntry);
         buffer.writeVarInt(entries.size());
         for (CraftingPlanSummaryEntry entry : entries) {
             entry.write(buffer);
@@ -80,13 +121,15 @@ public static CraftingPlanSummary read(FriendlyByteBuf buffer) {
 
         long bytesUsed = buffer.readVarLong();
         boolean simulation = buffer.readBoolean();
+        int totalEntryCount = buffer.readVarInt();
+        int firstEntry = buffer.readVarInt();
         int entryCount = buffer.readVarInt();
         ImmutableList.Builder<CraftingPlanSummaryEntry> entries = ImmutableList.builder();
         for (int i = 0; i < entryCount; i++) {
             entries.add(CraftingPlanSummaryEntry.read(buffer));
         }
 
-        return new CraftingPlanSummary(bytesUsed, simulation, entries.build());
+        return new CraftingPlanSummary(bytesUsed, simulation, totalEntryCount, firstEntry, entries.build());
     }
 
     private static class KeyStats {
@@ -473,7 +473,7 @@ private void markForUpdateIfClientFlagsChanged() {
         }
 
         if (changed) {
-            getHost().markForUpdate();
+            getHost().markPartForUpdate(getSide());
         }
     }
 
@@ -748,26 +748,7 @@ public boolean readFromStream(FriendlyByteBuf data) {
         for (int x = 0; x < Platform.DIRECTIONS_WITH_NULL.length; x++) {
             Direction side = Platform.DIRECTIONS_WITH_NULL[x];
             if ((sides & 1 << x) == 1 << x) {
-                IPart p = this.getPart(side);
-
-                var itemId = data.readVarInt();
-                var partItem = IPartItem.byNetworkId(itemId);
-
-                if (p != null && p.getPartItem() == partItem) {
-                    if (p.readFromStream(data)) {
-                        updateBlock = true;
-                    }
-                } else if (partItem != null) {
-                    this.removePartFromSide(side);
-                    p = this.addPart(partItem, side, null);
-                    if (p != null) {
-                        p.readFromStream(data);
-                    } else {
-                        throw new IllegalStateException("Invalid Stream For CableBus Container.");
-                    }
-                } else {
-                    throw new IllegalStateException("Invalid item from server for part: " + itemId);
-                }
+                updateBlock |= readPartFromStream(side, data);
             } else if (this.getPart(side) != null) {
                 this.removePartFromSide(side);
             }
@@ -781,6 +762,69 @@ public boolean readFromStream(FriendlyByteBuf data) {
         return updateBlock;
     }
 
+    private boolean readPartFromStream(@Nullable Direction side, FriendlyByteBuf data) {
+        IPart p = this.getPart(side);
+
+        var itemId = data.readVarInt();
+        var partItem = IPartItem.byNetworkId(itemId);
+
+        if (p != null && p.getPartItem() == partItem) {
+            return p.readFromStream(data);
+        } else if (partItem != null) {
+            this.removePartFromSide(side);
+            p = this.addPart(partItem, side, null);
+            if (p != null) {
+                p.readFromStream(data);
+            } else {
+                throw new IllegalStateException("Invalid Stream For CableBus Container.");
+            }
+            return false;
+        } else {
+            throw new IllegalStateException("Invalid item from server for part: " + itemId);
+        }
+    }
+
+    /**
+     * @return The section used by {@link #writeDeltaToStream} for the part on the given side.
+     */
+    public static long getPartSection(@Nullable Direction side) {
+        return 1L << getSideIndex(side);
+    }
+
+    /**
+     * Writes only the parts on the sides included in the given sections, see {@link #getPartSection}.
+     */
+    public void writeDeltaToStream(FriendlyByteBuf data, long sections) {
+        for (var side : Platform.DIRECTIONS_WITH_NULL) {
+            if ((sections & getPartSection(side)) != 0) {
+                var p = this.getPart(side);
+                data.writeBoolean(p != null);
+                if (p != null) {
+                    data.writeVarInt(IPartItem.getNetworkId(p.getPartItem()));
+                    p.writeToStream(data);
+                }
+            }
+        }
+    }
+
+    public boolean readDeltaFromStream(FriendlyByteBuf data, long sections) {
+        boolean updateBlock = false;
+
+        for (var side : Platform.DIRECTIONS_WITH_NULL) {
+            if ((sections & getPartSection(side)) != 0) {
+                if (data.readBoolean()) {
+                    updateBlock |= readPartFromStream(side, data);
+                } else if (this.getPart(side) != null) {
+                    this.removePartFromSide(side);
+                }
+            }
+        }
+
+        this.invalidateShapes();
+
+        return updateBlock;
+    }
+
     private static int getSideIndex(@org.jetbrains.annotations.Nullable Direction side) {
         return side == null ? 6 : side.ordinal();
     }
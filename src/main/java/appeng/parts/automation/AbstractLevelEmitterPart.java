@@ -102,7 +102,7 @@ public void readVisualStateFromNBT(CompoundTag data) {
     protected void updateState() {
         var isOn = this.isLevelEmitterOn();
         if (this.prevState != isOn) {
-            this.getHost().markForUpdate();
+            this.getHost().markPartForUpdate(getSide());
             var te = this.getHost().getBlockEntity();
             this.prevState = isOn;
             Platform.notifyBlocksOfNeighbors(te.getLevel(), te.getBlockPos());
@@ -130,7 +130,7 @@ protected void onMainNodeStateChanged(IGridNodeListener.State reason) {
         if (this.wasOnline != currentOnline) {
             this.wasOnline = currentOnline;
             this.remountStorage();
-            this.getHost().markForUpdate();
+            this.getHost().markPartForUpdate(getSide());
         }
     }
 
@@ -15,6 +15,8 @@
 import appeng.api.behaviors.StackTransferContext;
 import appeng.api.config.Actionable;
 import appeng.api.stacks.AEKey;
+import appeng.api.stacks.KeyCounter;
+import appeng.core.AEConfig;
 import appeng.core.AELog;
 import appeng.util.IVariantConversion;
 
@@ -26,6 +28,10 @@
     private final BlockApiCache<Storage<V>, Direction> apiCache;
     private final Direction fromSide;
     private final IVariantConversion<V> conversion;
+    /**
+     * Index of the storage view where importing of multiple keys continues with the next transfer.
+     */
+    private int cursor;
 
     public StorageImportStrategy(BlockApiLookup<Storage<V>, Direction> apiLookup,
             IVariantConversion<V> conversion,
@@ -48,6 +54,10 @@ public boolean transfer(StackTransferContext context) {
             return false;
         }
 
+        if (AEConfig.instance().isImportBusMultipleKeys()) {
+            return transferMultipleKeys(context, adjacentStorage);
+        }
+
         long remainingTransferAmount = context.getOperationsRemaining()
                 * (long) conversion.getKeyType().getAmountPerOperation();
 
@@ -72,9 +82,11 @@ public boolean transfer(StackTransferContext context) {
 
                 // Check how much of *this* resource we can actually insert into the network, it might be 0
                 // if the cells are partitioned or there's not enough types left, etc.
-                var amountForThisResource = inv.getInventory().insert(resourceKey, remainingTransferAmount,
-                        Actionable.SIMULATE,
+                var amountForThisResource = inv.simulateInsert(resourceKey, remainingTransferAmount,
                         context.getActionSource());
+                if (amountForThisResource <= 0) {
+                    continue;
+                }
 
                 // Try to extract it
                 var amount = view.extract(resource, amountForThisResource, tx);
@@ -119,6 +131,93 @@ public boolean transfer(StackTransferContext context) {
         }
     }
 
+    /**
+     * Extracts any keys that fit the filter until the transfer amount is used up, starting at the view where the last
+     * transfer stopped. Each extraction is inserted into the network right away, so that the capacity used by one key
+     * is accounted for when simulating the next one.
+     */
+    private boolean transferMultipleKeys(StackTransferContext context, Storage<V> adjacentStorage) {
+        var amountPerOperation = conversion.getKeyType().getAmountPerOperation();
+        long remainingTransferAmount = context.getOperationsRemaining() * (long) amountPerOperation;
+
+        var storageService = context.getInternalStorage();
+        var inv = storageService.getInventory();
+        try (var tx = Transaction.openOuter()) {
+            long insertedTotal = 0;
+            var extractedAny = false;
+            // Amounts the network refused despite the simulation, which are given back after iterating
+            var refused = new KeyCounter();
+            var start = cursor;
+            var stoppedAt = -1;
+
+            // First iterate from the cursor to the end, then wrap around to the views before the cursor
+            for (int pass = 0; pass < 2 && stoppedAt < 0; pass++) {
+                int index = 0;
+                for (var view : adjacentStorage) {
+                    var i = index++;
+                    if (pass == 0 && i < start) {
+                        continue;
+                    } else if (pass == 1 && i >= start) {
+                        break;
+                    }
+
+                    var resource = view.getResource();
+                    var resourceKey = conversion.getKey(resource);
+                    if (resourceKey == null || context.isInFilter(resourceKey) == context.isInverted()) {
+                        continue;
+                    }
+
+                    var amountForThisResource = storageService.simulateInsert(resourceKey,
+                            remainingTransferAmount, context.getActionSource());
+                    if (amountForThisResource <= 0) {
+                        continue;
+                    }
+
+                    var amount = view.extract(resource, amountForThisResource, tx);
+                    if (amount > 0) {
+                        extractedAny = true;
+                        var inserted = inv.insert(resourceKey, amount, Actionable.MODULATE,
+                                context.getActionSource());
+                        insertedTotal += inserted;
+                        if (inserted < amount) {
+                            refused.add(resourceKey, amount - inserted);
+                        }
+                        remainingTransferAmount -= amount;
+                        if (remainingTransferAmount <= 0) {
+                            // The view may have more, so continue with it next time
+                            stoppedAt = i;
+                            break;
+                        }
+                    }
+                }
+            }
+
+            // We might have found nothing to extract
+            if (!extractedAny) {
+                return false;
+            }
+            if (stoppedAt >= 0) {
+                cursor = stoppedAt;
+            }
+
+            for (var entry : refused) {
+                // Be nice and try to give the overflow back
+                var what = entry.getKey();
+                long leftover = entry.getLongValue();
+                leftover -= adjacentStorage.insert(conversion.getVariant(what), leftover, tx);
+                if (leftover > 0) {
+                    AELog.warn("Extracted %dx%s from adjacent storage and voided it because network refused insert",
+                            leftover, what);
+                }
+            }
+
+            context.reduceOperationsRemaining(Math.max(1, insertedTotal / amountPerOperation));
+
+            tx.commit();
+            return true;
+        }
+    }
+
     public static StackImportStrategy createItem(ServerLevel level, BlockPos fromPos, Direction fromSide) {
         return new StorageImportStrategy<>(
                 ItemStorage.SIDED,
@@ -46,7 +46,6 @@
 import appeng.core.AppEng;
 import appeng.core.definitions.AEItems;
 import appeng.helpers.IConfigInvHost;
-import appeng.hooks.ticking.TickHandler;
 import appeng.items.parts.PartModels;
 import appeng.menu.MenuOpener;
 import appeng.menu.implementations.StorageLevelEmitterMenu;
@@ -84,7 +83,6 @@ public class StorageLevelEmitterPart extends AbstractLevelEmitterPart
     private final ConfigInventory config = ConfigInventory.configTypes(1, this::configureWatchers);
     private IStackWatcher storageWatcher;
     private IStackWatcher craftingWatcher;
-    private long lastUpdateTick = -1;
 
     private final IStorageWatcherNode stackWatcherNode = new IStorageWatcherNode() {
         @Override
@@ -95,18 +93,10 @@ public void updateWatcher(IStackWatcher newWatcher) {
 
         @Override
         public void onStackChange(AEKey what, long amount) {
-            if (what.equals(getConfiguredKey()) && !isUpgradedWith(AEItems.FUZZY_CARD)) {
-                lastReportedValue = amount;
-                updateState();
-            } else { // either fuzzy upgrade or null filter
-                // When using a fuzzy upgrade or no filter at all, the level emitter will actively scan the grid
-                // We need to ensure we only do this once per tick in case any stack has changed.
-                long currentTick = TickHandler.instance().getCurrentTick();
-                if (currentTick != lastUpdateTick) {
-                    lastUpdateTick = currentTick;
-                    updateReportingValue(getGridNode().getGrid());
-                }
-            }
+            // We only register a threshold at the reporting value, so this is only called when it is crossed,
+            // with the total of all watched stacks
+            lastReportedValue = amount;
+            updateState();
         }
     };
     private final ICraftingWatcherNode craftingWatcherNode = new ICraftingWatcherNode() {
@@ -195,9 +185,9 @@ && getConfigManager().getSetting(Settings.CRAFT_VIA_REDSTONE) == YesNo.YES) {
 
     @Override
     protected void onReportingValueChanged() {
-        // Since we stop iteration below once lastReportedValue > reportingValue, we must recompute lastReportedValue if
-        // reportingValue is updated.
-        getMainNode().ifPresent(this::updateReportingValue);
+        // The storage watcher threshold is the reporting value, and since we stop iteration below once
+        // lastReportedValue > reportingValue, we must also recompute lastReportedValue.
+        configureWatchers();
     }
 
     @Override
@@ -224,11 +214,10 @@ protected void configureWatchers() {
             }
         } else {
             if (this.storageWatcher != null) {
-                if (isUpgradedWith(AEItems.FUZZY_CARD) || myStack == null) {
-                    this.storageWatcher.setWatchAll(true);
-                } else {
-                    this.storageWatcher.add(myStack);
-                }
+                var fuzzyMode = isUpgradedWith(AEItems.FUZZY_CARD)
+                        ? this.getConfigManager().getSetting(Settings.FUZZY_MODE)
+                        : null;
+                this.storageWatcher.addThreshold(myStack, fuzzyMode, getReportingValue());
             }
 
             getMainNode().ifPresent(this::updateReportingValue);
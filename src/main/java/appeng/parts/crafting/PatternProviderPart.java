@@ -148,6 +148,7 @@ public void importSettings(SettingsFrom mode, CompoundTag input, @Nullable Playe
     @Override
     public void onNeighborChanged(BlockGetter level, BlockPos pos, BlockPos neighbor) {
         logic.updateRedstoneState();
+        logic.invalidateTargetCache();
     }
 
     @Override
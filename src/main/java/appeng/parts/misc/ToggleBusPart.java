@@ -129,7 +129,7 @@ public void onNeighborChanged(BlockGetter level, BlockPos pos, BlockPos neighbor
 
         if (this.hasRedstone != oldHasRedstone) {
             this.updateInternalState();
-            this.getHost().markForUpdate();
+            this.getHost().markPartForUpdate(getSide());
         }
     }
 
@@ -158,7 +158,7 @@ public boolean changeColor(AEColor newColor, Player who) {
                 setPartItem(newPart);
 
                 getMainNode().setGridColor(getCableColor());
-                getHost().markForUpdate();
+                getHost().markPartForUpdate(getSide());
                 getHost().markForSave();
                 return true;
             }
@@ -177,7 +177,7 @@ public boolean isConnected(Direction side) {
     }
 
     public void markForUpdate() {
-        this.getHost().markForUpdate();
+        this.getHost().markPartForUpdate(getSide());
     }
 
     @Override
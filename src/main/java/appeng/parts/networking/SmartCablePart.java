@@ -34,7 +34,7 @@ public SmartCablePart(ColoredPartItem<?> partItem) {
     @Override
     protected void onMainNodeStateChanged(IGridNodeListener.State reason) {
         if (reason != IGridNodeListener.State.GRID_BOOT) {
-            this.getHost().markForUpdate();
+            this.getHost().markPartForUpdate(getSide());
         }
     }
 
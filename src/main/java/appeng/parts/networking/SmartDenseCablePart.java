@@ -39,7 +39,7 @@ public AECableType getCableConnectionType() {
     @Override
     protected void onMainNodeStateChanged(IGridNodeListener.State reason) {
         if (reason != IGridNodeListener.State.GRID_BOOT) {
-            this.getHost().markForUpdate();
+            this.getHost().markPartForUpdate(getSide());
         }
     }
 
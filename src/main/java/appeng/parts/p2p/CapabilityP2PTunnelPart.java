@@ -25,6 +25,7 @@
 import net.minecraft.world.level.block.Blocks;
 
 import appeng.api.parts.IPartItem;
+import appeng.hooks.ticking.CallablePriority;
 import appeng.hooks.ticking.TickHandler;
 import appeng.parts.PartAdjacentApi;
 
@@ -155,7 +156,7 @@ protected void sendBlockUpdate() {
     public void onTunnelNetworkChange() {
         // This might be invoked while the network is being unloaded and we don't want to send a block update then, so
         // we delay it until the next tick.
-        TickHandler.instance().addCallable(getLevel(), () -> {
+        TickHandler.instance().addUniqueCallable(getLevel(), this, CallablePriority.NORMAL, level -> {
             if (getMainNode().isReady()) { // Check that the p2p tunnel is still there.
                 sendBlockUpdate();
             }
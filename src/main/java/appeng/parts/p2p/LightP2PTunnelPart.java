@@ -109,7 +109,7 @@ private boolean doWork() {
     public void onNeighborChanged(BlockGetter level, BlockPos pos, BlockPos neighbor) {
         if (this.isOutput() && pos.relative(this.getSide()).equals(neighbor)) {
             this.opacity = -1;
-            this.getHost().markForUpdate();
+            this.getHost().markPartForUpdate(getSide());
         } else {
             this.doWork();
         }
@@ -126,7 +126,7 @@ public int getLightLevel() {
 
     private void setLightLevel(int out) {
         this.lastValue = out;
-        this.getHost().markForUpdate();
+        this.getHost().markPartForUpdate(getSide());
     }
 
     private int blockLight(int emit) {
@@ -164,7 +164,7 @@ public void onTunnelNetworkChange() {
             if (src != null && src.getMainNode().isActive()) {
                 this.setLightLevel(src.lastValue);
             } else {
-                this.getHost().markForUpdate();
+                this.getHost().markPartForUpdate(getSide());
             }
         } else {
             this.doWork();
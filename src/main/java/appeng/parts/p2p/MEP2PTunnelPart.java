@@ -44,6 +44,7 @@
 import appeng.core.AELog;
 import appeng.core.AppEng;
 import appeng.core.settings.TickRates;
+import appeng.hooks.ticking.CallablePriority;
 import appeng.hooks.ticking.TickHandler;
 import appeng.items.parts.PartModels;
 
@@ -156,7 +157,8 @@ public TickRateModulation tickingRequest(IGridNode node, int ticksSinceLastCall)
             pendingUpdate = ConnectionUpdate.CONNECT;
         }
 
-        TickHandler.instance().addCallable(getLevel(), this::updateConnections);
+        TickHandler.instance().addUniqueCallable(getLevel(), this, CallablePriority.NORMAL,
+                level -> this.updateConnections());
         return TickRateModulation.SLEEP;
     }
 
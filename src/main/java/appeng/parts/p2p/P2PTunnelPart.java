@@ -84,7 +84,13 @@ public T getInput() {
     }
 
     public List<T> getOutputs() {
-        return getOutputStream().toList();
+        if (this.getMainNode().isActive()) {
+            var grid = getMainNode().getGrid();
+            if (grid != null) {
+                return P2PService.get(grid).getOutputList(this.getFrequency(), this.getClass());
+            }
+        }
+        return List.of();
     }
 
     public Stream<T> getOutputStream() {
@@ -320,7 +326,7 @@ public void setFrequency(short freq) {
         this.freq = freq;
         if (oldf != this.freq) {
             this.getHost().markForSave();
-            this.getHost().markForUpdate();
+            this.getHost().markPartForUpdate(getSide());
         }
     }
 
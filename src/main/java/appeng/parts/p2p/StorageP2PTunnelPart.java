@@ -18,6 +18,7 @@
 import appeng.api.config.PowerUnits;
 import appeng.api.parts.IPartItem;
 import appeng.api.stacks.AEKeyType;
+import appeng.hooks.ticking.TickHandler;
 
 /**
  * Base class for P2P tunnels that work with {@code Storage<T>}.
@@ -35,6 +36,29 @@ public StorageP2PTunnelPart(IPartItem<?> partItem, BlockApiLookup<Storage<T>, Di
         this.keyType = keyType;
     }
 
+    /**
+     * Set on output tunnels when the adjacent storage accepted none of {@link #saturatedResource} during
+     * {@link #saturatedTick}. Fabric storages do not expose their remaining capacity, so the input tunnel skips such
+     * outputs for the rest of the tick instead of offering them the same resource again. Only committed inserts mark
+     * an output as saturated.
+     */
+    private long saturatedTick = -1;
+    private T saturatedResource;
+    /**
+     * Index of the output that receives the remainder first on the next insert, so that the remainder of uneven
+     * splits is spread across the outputs over time. Only advanced by committed inserts.
+     */
+    private int rotation;
+
+    boolean isSaturated(T resource, long currentTick) {
+        return saturatedTick == currentTick && resource.equals(saturatedResource);
+    }
+
+    void markSaturated(T resource, long currentTick) {
+        this.saturatedTick = currentTick;
+        this.saturatedResource = resource;
+    }
+
     private class InputStorage implements InsertionOnlyStorage<T> {
         @Override
         public long insert(T resource, long maxAmount, TransactionContext transaction) {
@@ -49,15 +73,44 @@ public long insert(T resource, long maxAmount, TransactionContext transaction) {
                 return 0;
             }
 
-            final long amountPerOutput = amount / outputTunnels;
-            long overflow = amountPerOutput == 0 ? amount : amount % amountPerOutput;
-
+            var currentTick = TickHandler.instance().getCurrentTick();
+            int availableOutputs = 0;
             for (var target : outputs) {
+                if (!target.isSaturated(resource, currentTick)) {
+                    availableOutputs++;
+                }
+            }
+            if (availableOutputs == 0) {
+                return 0;
+            }
+
+            final long amountPerOutput = amount / availableOutputs;
+            long overflow = amount - amountPerOutput * availableOutputs;
+
+            var start = Math.floorMod(rotation, outputTunnels);
+            transaction.addOuterCloseCallback(result -> {
+                if (result.wasCommitted()) {
+                    rotation = start + 1;
+                }
+            });
+            for (int i = 0; i < outputTunnels; i++) {
+                var target = outputs.get((start + i) % outputTunnels);
+                if (target.isSaturated(resource, currentTick)) {
+                    continue;
+                }
+
                 try (CapabilityGuard capabilityGuard = target.getAdjacentCapability()) {
                     final Storage<T> output = capabilityGuard.get();
                     final long toSend = amountPerOutput + overflow;
 
                     final long received = output.insert(resource, toSend, transaction);
+                    if (received == 0 && toSend > 0) {
+                        transaction.addOuterCloseCallback(result -> {
+                            if (result.wasCommitted()) {
+                                target.markSaturated(resource, currentTick);
+                            }
+                        });
+                    }
 
                     overflow = toSend - received;
                     total += received;
@@ -165,7 +165,7 @@ public boolean onPartActivate(Player player, InteractionHand hand, Vec3 pos) {
             }
             this.configureWatchers();
             this.getHost().markForSave();
-            this.getHost().markForUpdate();
+            this.getHost().markPartForUpdate(getSide());
         } else {
             return super.onPartActivate(player, hand, pos);
         }
@@ -192,7 +192,7 @@ public boolean onPartShiftActivate(Player player, InteractionHand hand, Vec3 pos
             player.sendSystemMessage(
                     (this.isLocked ? PlayerMessages.isNowLocked : PlayerMessages.isNowUnlocked).text());
             this.getHost().markForSave();
-            this.getHost().markForUpdate();
+            this.getHost().markPartForUpdate(getSide());
         }
 
         return true;
@@ -265,7 +265,7 @@ public AEKey getDisplayed() {
 
     public void setConfiguredItem(@Nullable AEKey configuredItem) {
         this.configuredItem = configuredItem;
-        getHost().markForUpdate();
+        getHost().markPartForUpdate(getSide());
     }
 
     @Override
@@ -280,7 +280,7 @@ public boolean isLocked() {
 
     public void setLocked(boolean locked) {
         isLocked = locked;
-        getHost().markForUpdate();
+        getHost().markPartForUpdate(getSide());
     }
 
     @Override
@@ -299,7 +299,7 @@ public void onStackChange(AEKey what, long amount) {
             // Try throttling to only relevant updates
             if (!humanReadableText.equals(this.lastHumanReadableText)) {
                 this.lastHumanReadableText = humanReadableText;
-                this.getHost().markForUpdate();
+                this.getHost().markPartForUpdate(getSide());
             }
         }
     }
@@ -77,7 +77,7 @@ public final void getBoxes(IPartCollisionHelper bch) {
     public void onNeighborChanged(BlockGetter level, BlockPos pos, BlockPos neighbor) {
         if (pos.relative(this.getSide()).equals(neighbor)) {
             this.opacity = -1;
-            this.getHost().markForUpdate();
+            this.getHost().markPartForUpdate(getSide());
         }
     }
 
@@ -120,7 +120,7 @@ public boolean onPartActivate(Player player, InteractionHand hand, Vec3 pos) {
         if (InteractionUtil.canWrenchRotate(player.getInventory().getSelected())) {
             if (!isClientSide()) {
                 this.spin = (byte) ((this.spin + 1) % 4);
-                this.getHost().markForUpdate();
+                this.getHost().markPartForUpdate(getSide());
                 this.getHost().markForSave();
             }
             return true;
@@ -142,7 +142,7 @@ protected final void onMainNodeStateChanged(IGridNodeListener.State reason) {
         var currentOnline = this.getMainNode().isOnline();
         if (this.wasOnline != currentOnline) {
             this.wasOnline = currentOnline;
-            this.getHost().markForUpdate();
+            this.getHost().markPartForUpdate(getSide());
             remountStorage();
         }
     }
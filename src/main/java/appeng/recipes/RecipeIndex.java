@@ -0,0 +1,170 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2023, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.recipes;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.MapMaker;
+
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraft.world.item.crafting.Recipe;
+import net.minecraft.world.item.crafting.RecipeType;
+import net.minecraft.world.level.Level;
+
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+
+/**
+ * Indexes the recipes of a type by keys derived from their inputs (i.e. the items of an ingredient), so that machines
+ * only need to test the recipes that can possibly match instead of all recipes of the type.
+ * <p>
+ * The index is built lazily for every set of loaded recipes and thus follows recipe reloads automatically. Recipes for
+ * which no keys can be determined are returned for every lookup.
+ */
+public final class RecipeIndex<R extends Recipe<?>, K> {
+    private final RecipeType<R> type;
+    private final Function<R, Collection<K>> keyGetter;
+    /**
+     * Keyed by the recipe map of the recipe manager, which is replaced when recipes are reloaded. Client and server
+     * have separate recipe managers in single-player.
+     */
+    private final Map<Map<?, R>, Index<R, K>> indices = new MapMaker().weakKeys().makeMap();
+
+    /**
+     * @param keyGetter Returns the keys under which a recipe is indexed. An empty collection means the recipe has to be
+     *                  tested for every lookup.
+     */
+    public RecipeIndex(RecipeType<R> type, Function<R, Collection<K>> keyGetter) {
+        this.type = type;
+        this.keyGetter = keyGetter;
+    }
+
+    /**
+     * @return The recipes that are indexed under the given key, in the order of the recipe manager.
+     */
+    public List<R> get(Level level, K key) {
+        return getIndex(level).get(key);
+    }
+
+    /**
+     * @return The recipes that are indexed under either of the given keys, in the order of the recipe manager.
+     */
+    public List<R> get(Level level, K first, K second) {
+        var index = getIndex(level);
+        return index.merge(index.get(first), index.get(second));
+    }
+
+    /**
+     * @return All recipes of the indexed type.
+     */
+    public Collection<R> getAll(Level level) {
+        return level.getRecipeManager().byType(type).values();
+    }
+
+    private Index<R, K> getIndex(Level level) {
+        var recipes = level.getRecipeManager().byType(type);
+        return indices.computeIfAbsent(recipes, r -> new Index<>(r.values(), keyGetter));
+    }
+
+    /**
+     * Returns the items of the given ingredients as index keys. Empty ingredients are skipped, since they only match
+     * empty stacks. If the items of any other ingredient are unknown, no keys are returned.
+     */
+    public static Collection<Item> itemKeys(Ingredient... ingredients) {
+        Set<Item> result = new ReferenceOpenHashSet<>();
+        for (var ingredient : ingredients) {
+            if (ingredient.isEmpty()) {
+                continue;
+            }
+            var items = ingredient.getItems();
+            if (items.length == 0) {
+                return Set.of();
+            }
+            for (var item : items) {
+                result.add(item.getItem());
+            }
+        }
+        return result;
+    }
+
+    @VisibleForTesting
+    static class Index<R, K> {
+        private final Map<K, List<R>> recipesByKey = new HashMap<>();
+        private final List<R> unkeyedRecipes = new ArrayList<>();
+        private final Reference2IntOpenHashMap<R> positions = new Reference2IntOpenHashMap<>();
+
+        Index(Collection<R> recipes, Function<R, Collection<K>> keyGetter) {
+            for (var recipe : recipes) {
+                positions.put(recipe, positions.size());
+
+                var keys = keyGetter.apply(recipe);
+                if (keys.isEmpty()) {
+                    unkeyedRecipes.add(recipe);
+                } else {
+                    for (var key : keys) {
+                        recipesByKey.computeIfAbsent(key, k -> new ArrayList<>()).add(recipe);
+                    }
+                }
+            }
+        }
+
+        List<R> get(K key) {
+            return merge(recipesByKey.getOrDefault(key, List.of()), unkeyedRecipes);
+        }
+
+        /**
+         * Merges two lists of recipes in recipe manager order into one, removing duplicates.
+         */
+        List<R> merge(List<R> a, List<R> b) {
+            if (b.isEmpty()) {
+                return a;
+            } else if (a.isEmpty()) {
+                return b;
+            }
+
+            var result = new ArrayList<R>(a.size() + b.size());
+            int i = 0, j = 0;
+            while (i < a.size() || j < b.size()) {
+                R next;
+                if (j >= b.size()) {
+                    next = a.get(i++);
+                } else if (i >= a.size()) {
+                    next = b.get(j++);
+                } else {
+                    int posA = positions.getInt(a.get(i));
+                    int posB = positions.getInt(b.get(j));
+                    if (posA == posB) {
+                        j++;
+                    }
+                    next = posA <= posB ? a.get(i++) : b.get(j++);
+                }
+                result.add(next);
+            }
+            return result;
+        }
+    }
+}
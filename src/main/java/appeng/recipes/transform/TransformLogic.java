@@ -1,5 +1,6 @@
 package appeng.recipes.transform;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.List;
@@ -23,7 +24,15 @@
 
 import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 
+import appeng.recipes.RecipeIndex;
+
 public final class TransformLogic {
+    /**
+     * Indexes recipes by the items that can trigger them, see {@link #getTriggerItems}.
+     */
+    private static final RecipeIndex<TransformRecipe, Item> RECIPES_BY_TRIGGER = new RecipeIndex<>(
+            TransformRecipe.TYPE, TransformLogic::getTriggerItems);
+
     public static boolean canTransformInFluid(ItemEntity entity, FluidState fluid) {
         return getTransformableItems(entity.getLevel(), fluid.getType()).contains(entity.getItem().getItem());
     }
@@ -39,12 +48,10 @@ public static boolean canTransformInExplosion(ItemEntity entity) {
     public static boolean tryTransform(ItemEntity entity, Predicate<TransformCircumstance> circumstancePredicate) {
         var level = entity.level;
 
-        var region = new AABB(entity.getX() - 1, entity.getY() - 1, entity.getZ() - 1, entity.getX() + 1,
-                entity.getY() + 1, entity.getZ() + 1);
-        List<ItemEntity> itemEntities = level.getEntities(null, region).stream()
-                .filter(e -> e instanceof ItemEntity && !e.isRemoved()).map(e -> (ItemEntity) e).toList();
+        // Only look for nearby items once a recipe could be triggered by this item
+        List<ItemEntity> itemEntities = null;
 
-        for (var recipe : level.getRecipeManager().byType(TransformRecipe.TYPE).values()) {
+        for (var recipe : RECIPES_BY_TRIGGER.get(level, entity.getItem().getItem())) {
             if (!circumstancePredicate.test(recipe.circumstance))
                 continue;
 
@@ -62,6 +69,13 @@ public static boolean tryTransform(ItemEntity entity, Predicate<TransformCircums
                     continue;
             }
 
+            if (itemEntities == null) {
+                var region = new AABB(entity.getX() - 1, entity.getY() - 1, entity.getZ() - 1, entity.getX() + 1,
+                        entity.getY() + 1, entity.getZ() + 1);
+                itemEntities = level.getEntities(null, region).stream()
+                        .filter(e -> e instanceof ItemEntity && !e.isRemoved()).map(e -> (ItemEntity) e).toList();
+            }
+
             for (var itemEntity : itemEntities) {
                 final ItemStack other = itemEntity.getItem();
                 if (!other.isEmpty()) {
@@ -108,6 +122,19 @@ public static boolean tryTransform(ItemEntity entity, Predicate<TransformCircums
         return false;
     }
 
+    /**
+     * Explosion recipes can be triggered by any of their ingredients, the others only by their first ingredient.
+     */
+    private static Collection<Item> getTriggerItems(TransformRecipe recipe) {
+        if (recipe.ingredients.isEmpty()) {
+            return Set.of();
+        } else if (recipe.circumstance.isExplosion()) {
+            return RecipeIndex.itemKeys(recipe.ingredients.toArray(new Ingredient[0]));
+        } else {
+            return RecipeIndex.itemKeys(recipe.ingredients.get(0));
+        }
+    }
+
     // not using a Multimap here because we need to cache the empty set
     static Map<Fluid, Set<Item>> fluidCache = new IdentityHashMap<>();
     static Set<Item> explosionCache = null;
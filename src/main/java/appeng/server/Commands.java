@@ -23,6 +23,7 @@
 import appeng.server.services.compass.TestCompassCommand;
 import appeng.server.subcommands.ChannelModeCommand;
 import appeng.server.subcommands.ChunkLogger;
+import appeng.server.subcommands.ProfileCommand;
 import appeng.server.subcommands.SetupTestWorldCommand;
 import appeng.server.subcommands.SpatialStorageCommand;
 import appeng.server.subcommands.Supporters;
@@ -38,6 +39,7 @@ public enum Commands {
     Spatial(4, new SpatialStorageCommand()),
     CHANNEL_MODE(4, "channelmode", new ChannelModeCommand()),
     TICK_MONITORING(4, "tickmonitor", new TickMonitoring()),
+    PROFILE(4, "profile", new ProfileCommand()),
 
     // Testing
     Compass(4, new TestCompassCommand(), true),
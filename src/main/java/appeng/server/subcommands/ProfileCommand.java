@@ -0,0 +1,92 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2023, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.server.subcommands;
+
+import static net.minecraft.commands.Commands.literal;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.server.MinecraftServer;
+
+import appeng.core.AELog;
+import appeng.core.localization.PlayerMessages;
+import appeng.me.profiling.GridProfiler;
+import appeng.server.ISubCommand;
+
+/**
+ * Controls the {@link GridProfiler}, shows its report in chat and exports it as JSON.
+ */
+public class ProfileCommand implements ISubCommand {
+    private static final int REPORTED_GRIDS = 5;
+    private static final DateTimeFormatter FILE_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH.mm.ss");
+
+    @Override
+    public void addArguments(LiteralArgumentBuilder<CommandSourceStack> builder) {
+        builder.then(literal("start").executes(ctx -> {
+            GridProfiler.start();
+            ctx.getSource().sendSuccess(PlayerMessages.GridProfilerStarted.text(), true);
+            return 1;
+        }));
+        builder.then(literal("stop").executes(ctx -> {
+            GridProfiler.stop();
+            ctx.getSource().sendSuccess(PlayerMessages.GridProfilerStopped.text(), true);
+            return 1;
+        }));
+        builder.then(literal("export").executes(ctx -> {
+            export(ctx.getSource().getServer(), ctx.getSource());
+            return 1;
+        }));
+    }
+
+    @Override
+    public void call(MinecraftServer srv, CommandContext<CommandSourceStack> ctx, CommandSourceStack sender) {
+        if (!GridProfiler.isEnabled()) {
+            sender.sendFailure(PlayerMessages.GridProfilerNotRunning.text());
+            return;
+        }
+
+        var lines = GridProfiler.createReport(REPORTED_GRIDS);
+        if (lines.isEmpty()) {
+            sender.sendSuccess(PlayerMessages.GridProfilerNoSamples.text(), false);
+        }
+        for (var line : lines) {
+            sender.sendSuccess(line, false);
+        }
+    }
+
+    private void export(MinecraftServer srv, CommandSourceStack sender) {
+        var file = srv.getFile("ae2-profile-" + LocalDateTime.now().format(FILE_DATE_FORMAT) + ".json").toPath();
+        try (var writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            GridProfiler.writeJsonReport(writer);
+        } catch (IOException e) {
+            AELog.warn(e, "Failed to write grid profile to " + file);
+            sender.sendFailure(PlayerMessages.GridProfileWriteFailed.text(e.getMessage()));
+            return;
+        }
+        sender.sendSuccess(PlayerMessages.GridProfileWritten.text(file.toAbsolutePath().toString()), true);
+    }
+}
@@ -26,13 +26,16 @@
 import java.util.Locale;
 
 import com.google.common.math.StatsAccumulator;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
 import com.mojang.brigadier.builder.LiteralArgumentBuilder;
 import com.mojang.brigadier.context.CommandContext;
 import com.mojang.brigadier.exceptions.CommandSyntaxException;
 
 import net.minecraft.ChatFormatting;
 import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.Registry;
 import net.minecraft.core.registries.Registries;
 import net.minecraft.network.chat.ClickEvent;
 import net.minecraft.network.chat.ClickEvent.Action;
@@ -42,29 +45,46 @@
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.server.level.WorldGenRegion;
+import net.minecraft.util.RandomSource;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.biome.Biome;
+import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.chunk.ChunkAccess;
 import net.minecraft.world.level.chunk.ChunkStatus;
+import net.minecraft.world.level.chunk.ProtoChunk;
+import net.minecraft.world.level.chunk.UpgradeData;
 import net.minecraft.world.level.levelgen.Heightmap.Types;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
 import net.minecraft.world.level.levelgen.structure.Structure;
 
 import appeng.server.ISubCommand;
+import appeng.worldgen.meteorite.CraterType;
+import appeng.worldgen.meteorite.MeteoritePlacer;
 import appeng.worldgen.meteorite.MeteoriteStructure;
 import appeng.worldgen.meteorite.MeteoriteStructurePiece;
 import appeng.worldgen.meteorite.PlacedMeteoriteSettings;
+import appeng.worldgen.meteorite.fallout.FalloutMode;
 
 /**
- * This is a testing command to validate quartz ore generation.
+ * This is a testing command to validate meteorite generation. It can also benchmark meteorite placement.
  */
 public class TestMeteoritesCommand implements ISubCommand {
 
+    private static final int BENCHMARK_SURFACE_Y = 64;
+
     @Override
     public void addArguments(LiteralArgumentBuilder<CommandSourceStack> builder) {
         builder.then(literal("force").executes(ctx -> {
             test(ctx.getSource().getServer(), ctx.getSource(), true);
             return 1;
         }));
+        builder.then(literal("benchmark").then(Commands.argument("count", IntegerArgumentType.integer(1))
+                .executes(ctx -> {
+                    benchmark(ctx.getSource(), IntegerArgumentType.getInteger(ctx, "count"));
+                    return 1;
+                })));
     }
 
     @Override
@@ -187,6 +207,79 @@ private static void test(MinecraftServer srv, CommandSourceStack sender, boolean
         }
     }
 
+    /**
+     * Places the given number of random meteorites into detached chunks that are still being generated, once with
+     * and once without buffering the placed blocks, and compares the time taken as well as the resulting blocks.
+     */
+    private static void benchmark(CommandSourceStack sender, int count) {
+        var level = sender.getLevel();
+        var biomes = level.registryAccess().registryOrThrow(Registries.BIOME);
+
+        long unbufferedNanos = 0;
+        long bufferedNanos = 0;
+        long mismatches = 0;
+        for (int i = 0; i < count; i++) {
+            var chunkPos = new ChunkPos(i, 0);
+            var settings = createBenchmarkMeteorite(chunkPos, RandomSource.create(i));
+            var boundingBox = new BoundingBox(chunkPos.getMinBlockX(), level.getMinBuildHeight(),
+                    chunkPos.getMinBlockZ(), chunkPos.getMaxBlockX(), level.getMaxBuildHeight(),
+                    chunkPos.getMaxBlockZ());
+
+            var unbuffered = createBenchmarkChunk(level, biomes, chunkPos);
+            var start = System.nanoTime();
+            MeteoritePlacer.place(createBenchmarkRegion(level, unbuffered), settings, boundingBox, RandomSource.create(i),
+                    false);
+            unbufferedNanos += System.nanoTime() - start;
+
+            var buffered = createBenchmarkChunk(level, biomes, chunkPos);
+            start = System.nanoTime();
+            MeteoritePlacer.place(createBenchmarkRegion(level, buffered), settings, boundingBox, RandomSource.create(i),
+                    true);
+            bufferedNanos += System.nanoTime() - start;
+
+            for (var pos : BlockPos.betweenClosed(boundingBox.minX(), boundingBox.minY(), boundingBox.minZ(),
+                    boundingBox.maxX(), boundingBox.maxY() - 1, boundingBox.maxZ())) {
+                if (unbuffered.getBlockState(pos) != buffered.getBlockState(pos)) {
+                    mismatches++;
+                }
+            }
+        }
+
+        var unbufferedMs = unbufferedNanos / 1_000_000.0 / count;
+        var bufferedMs = bufferedNanos / 1_000_000.0 / count;
+        sendLine(sender, "Meteorites placed: %d", count);
+        sendLine(sender, "Unbuffered: %.3f ms/meteorite", unbufferedMs);
+        sendLine(sender, "Buffered: %.3f ms/meteorite (%.2fx)", bufferedMs, unbufferedMs / bufferedMs);
+        sendLine(sender, "Mismatching blocks: %d", mismatches);
+    }
+
+    private static PlacedMeteoriteSettings createBenchmarkMeteorite(ChunkPos chunkPos, RandomSource random) {
+        var pos = new BlockPos(chunkPos.getMiddleBlockX(), BENCHMARK_SURFACE_Y - random.nextInt(8),
+                chunkPos.getMiddleBlockZ());
+        var radius = random.nextFloat() * 6.0f + 2;
+        var craterType = CraterType.values()[random.nextInt(CraterType.values().length)];
+        var fallout = craterType == CraterType.NONE ? FalloutMode.NONE
+                : FalloutMode.values()[1 + random.nextInt(FalloutMode.values().length - 1)];
+        return new PlacedMeteoriteSettings(pos, radius, craterType, fallout, random.nextBoolean(),
+                random.nextBoolean());
+    }
+
+    private static ProtoChunk createBenchmarkChunk(ServerLevel level, Registry<Biome> biomes, ChunkPos chunkPos) {
+        var chunk = new ProtoChunk(chunkPos, UpgradeData.EMPTY, level, biomes, null);
+        chunk.setStatus(ChunkStatus.FEATURES);
+
+        var stone = Blocks.STONE.defaultBlockState();
+        for (var pos : BlockPos.betweenClosed(chunkPos.getMinBlockX(), level.getMinBuildHeight(),
+                chunkPos.getMinBlockZ(), chunkPos.getMaxBlockX(), BENCHMARK_SURFACE_Y, chunkPos.getMaxBlockZ())) {
+            chunk.setBlockState(pos, stone, false);
+        }
+        return chunk;
+    }
+
+    private static WorldGenRegion createBenchmarkRegion(ServerLevel level, ChunkAccess chunk) {
+        return new WorldGenRegion(level, List.of(chunk), ChunkStatus.FEATURES, 0);
+    }
+
     // Add a clickable link to teleport the user to the Meteorite
     private static Component getClickablePosition(ServerLevel level, PlacedMeteoriteSettings settings,
             BlockPos pos) {
@@ -19,7 +19,9 @@
 package appeng.spatial;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
+import java.util.stream.IntStream;
 
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -62,6 +64,14 @@ public class CachedPlane {
     private final ServerLevel level;
     private final List<BlockPos> updates = new ArrayList<>();
     private final BlockState matrixBlockState;
+    /**
+     * Block states of the plane captured by {@link #capture()}, indexed by {@link #getIndex}.
+     */
+    private BlockState[] capturedStates;
+    /**
+     * Positions that may be moved, i.e. that are neither blacklisted nor skipped.
+     */
+    private BitSet capturedMovable;
 
     public CachedPlane(ServerLevel level, int minX, int minY, int minZ, int maxX,
             int maxY, int maxZ) {
@@ -166,6 +176,14 @@ void swap(CachedPlane dst) {
 
             long startTime = System.nanoTime();
 
+            // Reading the planes has no side effects, so both are captured in parallel before the main thread
+            // writes the swapped states back
+            this.capture();
+            dst.capture();
+
+            long captureTime = System.nanoTime();
+            AELog.info("Block Capture Time: " + (captureTime - startTime));
+
             for (int x = 0; x < this.x_size; x++) {
                 for (int z = 0; z < this.z_size; z++) {
                     final Column srcCol = this.myColumns[x][z];
@@ -174,21 +192,14 @@ void swap(CachedPlane dst) {
                     for (int y = 0; y < this.y_size; y++) {
                         var src_y = this.y_offset + y;
                         var dst_y = dst.y_offset + y;
+                        var index = getIndex(x, y, z);
 
-                        if (srcCol.doNotSkip(src_y) && dstCol.doNotSkip(dst_y)) {
+                        if (this.capturedMovable.get(index) && dst.capturedMovable.get(index)) {
                             var srcSection = srcCol.getSection(src_y);
                             var dstSection = dstCol.getSection(dst_y);
 
-                            var srcState = srcSection.getBlockState(srcCol.x, SectionPos.sectionRelative(src_y),
-                                    srcCol.z);
-                            if (srcState == CachedPlane.this.matrixBlockState) {
-                                srcState = Blocks.AIR.defaultBlockState();
-                            }
-                            var dstState = dstSection.getBlockState(dstCol.x, SectionPos.sectionRelative(dst_y),
-                                    dstCol.z);
-                            if (dstState == CachedPlane.this.matrixBlockState) {
-                                dstState = Blocks.AIR.defaultBlockState();
-                            }
+                            var srcState = this.capturedStates[index];
+                            var dstState = dst.capturedStates[index];
 
                             srcSection.setBlockState(srcCol.x, SectionPos.sectionRelative(src_y), srcCol.z, dstState);
                             dstSection.setBlockState(dstCol.x, SectionPos.sectionRelative(dst_y), dstCol.z, srcState);
@@ -200,6 +211,11 @@ void swap(CachedPlane dst) {
                 }
             }
 
+            this.capturedStates = null;
+            this.capturedMovable = null;
+            dst.capturedStates = null;
+            dst.capturedMovable = null;
+
             long endTime = System.nanoTime();
             long duration = endTime - startTime;
             AELog.info("Block Copy Time: " + duration);
@@ -237,6 +253,63 @@ void swap(CachedPlane dst) {
         }
     }
 
+    private int getIndex(int x, int y, int z) {
+        return (x * this.z_size + z) * this.y_size + y;
+    }
+
+    /**
+     * Reads the block states of the plane and which of them can be moved. The chunk columns are independent of each
+     * other and only read, so they are processed in parallel. The blocks are read one by one rather than copying whole
+     * sections, since the plane rarely covers complete sections and every block needs to be checked for being movable
+     * anyway.
+     */
+    private void capture() {
+        var states = new BlockState[this.x_size * this.y_size * this.z_size];
+        var movable = new BitSet(states.length);
+        var air = Blocks.AIR.defaultBlockState();
+
+        // Every task writes a distinct set of indices into the states, but BitSet is not thread-safe, so each task
+        // collects its bits separately and they are merged afterwards
+        var columnMovable = new BitSet[this.cx_size * this.cz_size];
+        var firstChunkX = this.x_offset >> 4;
+        var firstChunkZ = this.z_offset >> 4;
+
+        IntStream.range(0, columnMovable.length).parallel().forEach(chunkIndex -> {
+            var chunkX = firstChunkX + chunkIndex / this.cz_size;
+            var chunkZ = firstChunkZ + chunkIndex % this.cz_size;
+            var minX = Math.max(0, (chunkX << 4) - this.x_offset);
+            var maxX = Math.min(this.x_size, (chunkX << 4) + 16 - this.x_offset);
+            var minZ = Math.max(0, (chunkZ << 4) - this.z_offset);
+            var maxZ = Math.min(this.z_size, (chunkZ << 4) + 16 - this.z_offset);
+
+            var taskMovable = new BitSet();
+            for (int x = minX; x < maxX; x++) {
+                for (int z = minZ; z < maxZ; z++) {
+                    var column = this.myColumns[x][z];
+                    for (int y = 0; y < this.y_size; y++) {
+                        var worldY = this.y_offset + y;
+                        var index = getIndex(x, y, z);
+                        var state = column.getSection(worldY).getBlockState(column.x,
+                                SectionPos.sectionRelative(worldY), column.z);
+
+                        if (column.doNotSkip(worldY, state)) {
+                            taskMovable.set(index);
+                        }
+                        states[index] = state == this.matrixBlockState ? air : state;
+                    }
+                }
+            }
+            columnMovable[chunkIndex] = taskMovable;
+        });
+
+        for (var taskMovable : columnMovable) {
+            movable.or(taskMovable);
+        }
+
+        this.capturedStates = states;
+        this.capturedMovable = movable;
+    }
+
     private void markForUpdate(int x, int y, int z) {
         this.updates.add(new BlockPos(x, y, z));
         for (Direction d : Direction.values()) {
@@ -355,6 +428,10 @@ public Column(LevelChunk chunk, int x, int z) {
 
         private boolean doNotSkip(int y) {
             var blockState = getSection(y).getBlockState(this.x, SectionPos.sectionRelative(y), this.z);
+            return doNotSkip(y, blockState);
+        }
+
+        private boolean doNotSkip(int y, BlockState blockState) {
             if (blockState.is(AETags.SPATIAL_BLACKLIST)) {
                 return false;
             }
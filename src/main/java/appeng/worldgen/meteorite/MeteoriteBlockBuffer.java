@@ -0,0 +1,163 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2023, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.worldgen.meteorite;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.WorldGenLevel;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.ChunkStatus;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+
+/**
+ * Collects the blocks placed by a {@link MeteoritePlacer} per chunk section and applies them in bulk once the
+ * meteorite is complete. Reads see the pending writes, so the placer behaves as if it wrote to the level directly.
+ * <p/>
+ * Unbuffered, every read and write goes to the level, which is how meteorites used to be placed.
+ */
+final class MeteoriteBlockBuffer {
+    private final LevelAccessor level;
+    private final boolean buffered;
+    private final Long2ObjectLinkedOpenHashMap<Section> sections = new Long2ObjectLinkedOpenHashMap<>();
+    // The placer mostly iterates within one section, which saves the map lookup
+    private long lastSectionKey = Long.MIN_VALUE;
+    private Section lastSection;
+
+    MeteoriteBlockBuffer(LevelAccessor level, boolean buffered) {
+        this.level = level;
+        this.buffered = buffered;
+    }
+
+    public BlockState getBlockState(BlockPos pos) {
+        if (!buffered || level.isOutsideBuildHeight(pos)) {
+            return level.getBlockState(pos);
+        }
+
+        var section = getSection(pos);
+        var index = Section.index(pos);
+        if (section.pending != null && section.pending[index] != null) {
+            return section.pending[index];
+        }
+        return section.section.getBlockState(pos.getX() & 15, pos.getY() & 15, pos.getZ() & 15);
+    }
+
+    public boolean isEmptyBlock(BlockPos pos) {
+        return getBlockState(pos).isAir();
+    }
+
+    public void setBlockState(BlockPos pos, BlockState state) {
+        if (!buffered) {
+            level.setBlock(pos, state, Block.UPDATE_ALL);
+            return;
+        }
+        if (level.isOutsideBuildHeight(pos)) {
+            return;
+        }
+
+        var section = getSection(pos);
+        if (section.pending == null) {
+            section.pending = new BlockState[16 * 16 * 16];
+        }
+        section.pending[Section.index(pos)] = state;
+    }
+
+    /**
+     * Writes all pending blocks to the level.
+     * <p/>
+     * Chunks that are still being generated are written to directly, one section at a time, with the same bookkeeping
+     * that {@link net.minecraft.server.level.WorldGenRegion} would do. Blocks with block entities and chunks that are
+     * already loaded in the world go through {@link LevelAccessor#setBlock} to keep block entities, neighbor updates and
+     * clients in sync.
+     */
+    public void flush() {
+        var pos = new BlockPos.MutableBlockPos();
+        for (var entry : sections.long2ObjectEntrySet()) {
+            var section = entry.getValue();
+            if (section.pending == null) {
+                continue;
+            }
+
+            var sectionPos = SectionPos.of(entry.getLongKey());
+            var worldGen = level instanceof WorldGenLevel && !section.chunk.getStatus().isOrAfter(ChunkStatus.FULL);
+            for (int i = 0; i < section.pending.length; i++) {
+                var state = section.pending[i];
+                if (state == null) {
+                    continue;
+                }
+
+                var x = i & 15;
+                var y = i >> 8;
+                var z = i >> 4 & 15;
+                pos.set(sectionPos.minBlockX() + x, sectionPos.minBlockY() + y, sectionPos.minBlockZ() + z);
+                if (worldGen && !state.hasBlockEntity() && !section.section.getBlockState(x, y, z).hasBlockEntity()) {
+                    var previous = section.chunk.setBlockState(pos, state, false);
+                    if (previous != null) {
+                        ((WorldGenLevel) level).getLevel().onBlockStateChange(pos, previous, state);
+                    }
+                    if (state.hasPostProcess(level, pos)) {
+                        section.chunk.markPosForPostprocessing(pos);
+                    }
+                    continue;
+                }
+                level.setBlock(pos, state, Block.UPDATE_ALL);
+            }
+        }
+        sections.clear();
+        lastSection = null;
+        lastSectionKey = Long.MIN_VALUE;
+    }
+
+    private Section getSection(BlockPos pos) {
+        var key = SectionPos.asLong(pos);
+        if (key == lastSectionKey) {
+            return lastSection;
+        }
+
+        var section = sections.get(key);
+        if (section == null) {
+            var chunk = level.getChunk(pos);
+            section = new Section(chunk, chunk.getSection(chunk.getSectionIndex(pos.getY())));
+            sections.put(key, section);
+        }
+        lastSectionKey = key;
+        lastSection = section;
+        return section;
+    }
+
+    private static final class Section {
+        private final ChunkAccess chunk;
+        private final LevelChunkSection section;
+        // Indexed like the section's own storage, null where nothing was placed
+        private BlockState[] pending;
+
+        private Section(ChunkAccess chunk, LevelChunkSection section) {
+            this.chunk = chunk;
+            this.section = section;
+        }
+
+        private static int index(BlockPos pos) {
+            return (pos.getY() & 15) << 8 | (pos.getZ() & 15) << 4 | pos.getX() & 15;
+        }
+    }
+}
@@ -19,20 +19,24 @@
 package appeng.worldgen.meteorite;
 
 import net.minecraft.core.BlockPos;
-import net.minecraft.world.level.LevelAccessor;
-import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
 
 public class MeteoriteBlockPutter {
-    public boolean put(LevelAccessor level, BlockPos pos, BlockState blk) {
-        final BlockState original = level.getBlockState(pos);
+    private final MeteoriteBlockBuffer blocks;
+
+    MeteoriteBlockPutter(MeteoriteBlockBuffer blocks) {
+        this.blocks = blocks;
+    }
+
+    public boolean put(BlockPos pos, BlockState blk) {
+        final BlockState original = blocks.getBlockState(pos);
 
         if (original.getBlock() == Blocks.BEDROCK || original == blk) {
             return false;
         }
 
-        level.setBlock(pos, blk, Block.UPDATE_ALL);
+        blocks.setBlockState(pos, blk);
         return true;
     }
 
@@ -45,14 +45,24 @@
 public final class MeteoritePlacer {
     public static void place(LevelAccessor level, PlacedMeteoriteSettings settings, BoundingBox boundingBox,
             RandomSource random) {
-        var placer = new MeteoritePlacer(level, settings, boundingBox, random);
+        place(level, settings, boundingBox, random, true);
+    }
+
+    /**
+     * @param buffered If true, blocks are collected per chunk section and written in bulk after the meteorite has been
+     *                 planned. Otherwise, each block is written to the level immediately.
+     */
+    public static void place(LevelAccessor level, PlacedMeteoriteSettings settings, BoundingBox boundingBox,
+            RandomSource random, boolean buffered) {
+        var placer = new MeteoritePlacer(level, settings, boundingBox, random, buffered);
         placer.place();
     }
 
     private final BlockState skyStone;
     private final List<BlockState> quartzBlocks;
     private final List<BlockState> quartzBuds;
-    private final MeteoriteBlockPutter putter = new MeteoriteBlockPutter();
+    private final MeteoriteBlockBuffer blocks;
+    private final MeteoriteBlockPutter putter;
     private final LevelAccessor level;
     private final RandomSource random;
     private final Fallout type;
@@ -70,9 +80,11 @@ public static void place(LevelAccessor level, PlacedMeteoriteSettings settings,
     private final BoundingBox boundingBox;
 
     private MeteoritePlacer(LevelAccessor level, PlacedMeteoriteSettings settings, BoundingBox boundingBox,
-            RandomSource random) {
+            RandomSource random, boolean buffered) {
         this.boundingBox = boundingBox;
         this.level = level;
+        this.blocks = new MeteoriteBlockBuffer(level, buffered);
+        this.putter = new MeteoriteBlockPutter(blocks);
         this.random = random;
         this.pos = settings.getPos();
         this.x = settings.getPos().getX();
@@ -118,6 +130,8 @@ public void place() {
         if (craterLake) {
             this.placeCraterLake();
         }
+
+        this.blocks.flush();
     }
 
     private int minX(int x) {
@@ -176,14 +190,14 @@ private void placeCrater() {
                     final double distanceFrom = dx * dx + dz * dz;
 
                     if (j > h + distanceFrom * 0.02) {
-                        BlockState currentBlock = level.getBlockState(blockPos);
+                        BlockState currentBlock = blocks.getBlockState(blockPos);
 
                         if (craterType != CraterType.NORMAL && j < y && currentBlock.getMaterial().isSolid()) {
                             if (j > h + distanceFrom * 0.02) {
-                                this.putter.put(level, blockPos, filler);
+                                this.putter.put(blockPos, filler);
                             }
                         } else {
-                            this.putter.put(level, blockPos, Blocks.AIR.defaultBlockState());
+                            this.putter.put(blockPos, Blocks.AIR.defaultBlockState());
                         }
 
                     }
@@ -209,7 +223,7 @@ private void placeMeteorite() {
 
     private void placeChest() {
         if (AEConfig.instance().isSpawnPressesInMeteoritesEnabled()) {
-            this.putter.put(level, pos, AEBlocks.MYSTERIOUS_CUBE.block().defaultBlockState());
+            this.putter.put(pos, AEBlocks.MYSTERIOUS_CUBE.block().defaultBlockState());
         }
     }
 
@@ -236,17 +250,17 @@ private void placeMeteoriteSkyStone() {
                             if (dy == -1) {
                                 // Certus
                                 var certusIndex = random.nextInt(quartzBlocks.size());
-                                this.putter.put(level, pos, quartzBlocks.get(certusIndex));
+                                this.putter.put(pos, quartzBlocks.get(certusIndex));
                                 // Add a bud on top if it's not a regular certus block (index 0), and not the center.
                                 // (70% chance)
                                 if (certusIndex != 0 && (dx != 0 || dz != 0) && random.nextFloat() <= 0.7) {
                                     var bud = quartzBuds.get(random.nextInt(quartzBuds.size()));
                                     var budState = bud.setValue(AmethystClusterBlock.FACING, Direction.UP);
-                                    this.putter.put(level, pos.offset(0, 1, 0), budState);
+                                    this.putter.put(pos.offset(0, 1, 0), budState);
                                 }
                             }
                         } else {
-                            this.putter.put(level, pos, skyStone);
+                            this.putter.put(pos, skyStone);
                         }
                     }
                 }
@@ -277,8 +291,8 @@ private void decay() {
                     blockPos.setY(j);
                     blockPosUp.setY(j + 1);
                     blockPosDown.setY(j - 1);
-                    BlockState state = level.getBlockState(blockPos);
-                    Block blk = level.getBlockState(blockPos).getBlock();
+                    BlockState state = blocks.getBlockState(blockPos);
+                    Block blk = state.getBlock();
 
                     if (this.pureCrater && blk == craterType.getFiller()) {
                         continue;
@@ -286,16 +300,16 @@ private void decay() {
 
                     // TODO reconsider
                     if (state.getMaterial().isReplaceable()) {
-                        if (!level.isEmptyBlock(blockPosUp)) {
-                            final BlockState stateUp = level.getBlockState(blockPosUp);
-                            level.setBlock(blockPos, stateUp, Block.UPDATE_ALL);
+                        if (!blocks.isEmptyBlock(blockPosUp)) {
+                            final BlockState stateUp = blocks.getBlockState(blockPosUp);
+                            blocks.setBlockState(blockPos, stateUp);
                         } else if (randomShit < 100 * this.crater) {
                             final double dx = i - x;
                             final double dy = j - y;
                             final double dz = k - z;
                             final double dist = dx * dx + dy * dy + dz * dz;
 
-                            final BlockState xf = level.getBlockState(blockPosDown);
+                            final BlockState xf = blocks.getBlockState(blockPosDown);
                             if (!xf.getMaterial().isReplaceable()) {
                                 final double extraRange = random.nextDouble() * 0.6;
                                 final double height = this.crater * (extraRange + 0.2)
@@ -303,11 +317,11 @@ private void decay() {
 
                                 if (!xf.isAir() && height > 0 && random.nextDouble() > 0.6) {
                                     randomShit++;
-                                    this.type.getRandomFall(level, blockPos);
+                                    this.type.getRandomFall(blockPos);
                                 }
                             }
                         }
-                    } else if (level.isEmptyBlock(blockPosUp) && random.nextDouble() > 0.4) { // decay.
+                    } else if (blocks.isEmptyBlock(blockPosUp) && random.nextDouble() > 0.4) { // decay.
                         final double dx = i - x;
                         final double dy = j - y;
                         final double dz = k - z;
@@ -315,7 +329,7 @@ private void decay() {
 
                         // Don't touch the center room!
                         if (!(Math.abs(dx) <= 1 && Math.abs(dy) <= 1 && Math.abs(dz) <= 1) && dr2 < this.crater * 1.6) {
-                            this.type.getRandomInset(level, blockPos);
+                            this.type.getRandomInset(blockPos);
                         }
                     }
                 }
@@ -345,9 +359,9 @@ private void placeCraterLake() {
                     final double distanceFrom = dx * dx + dz * dz;
 
                     if (j > h + distanceFrom * 0.02) {
-                        BlockState currentBlock = level.getBlockState(blockPos);
+                        BlockState currentBlock = blocks.getBlockState(blockPos);
                         if (currentBlock.getBlock() == Blocks.AIR) {
-                            this.putter.put(level, blockPos, Blocks.WATER.defaultBlockState());
+                            this.putter.put(blockPos, Blocks.WATER.defaultBlockState());
                         }
 
                     }
@@ -20,7 +20,6 @@
 
 import net.minecraft.core.BlockPos;
 import net.minecraft.util.RandomSource;
-import net.minecraft.world.level.LevelAccessor;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
 
@@ -41,33 +40,33 @@ public int adjustCrater() {
         return 0;
     }
 
-    public void getRandomFall(LevelAccessor level, BlockPos pos) {
+    public void getRandomFall(BlockPos pos) {
         var a = random.nextFloat();
         if (a > 0.9f) {
-            this.putter.put(level, pos, Blocks.STONE.defaultBlockState());
+            this.putter.put(pos, Blocks.STONE.defaultBlockState());
         } else if (a > 0.8f) {
-            this.putter.put(level, pos, Blocks.COBBLESTONE.defaultBlockState());
+            this.putter.put(pos, Blocks.COBBLESTONE.defaultBlockState());
         } else if (a > 0.7f) {
-            this.putter.put(level, pos, Blocks.DIRT.defaultBlockState());
+            this.putter.put(pos, Blocks.DIRT.defaultBlockState());
         } else {
-            this.putter.put(level, pos, Blocks.GRAVEL.defaultBlockState());
+            this.putter.put(pos, Blocks.GRAVEL.defaultBlockState());
         }
     }
 
-    public void getRandomInset(LevelAccessor level, BlockPos pos) {
+    public void getRandomInset(BlockPos pos) {
         var a = random.nextFloat();
         if (a > 0.9f) {
-            this.putter.put(level, pos, Blocks.COBBLESTONE.defaultBlockState());
+            this.putter.put(pos, Blocks.COBBLESTONE.defaultBlockState());
         } else if (a > 0.8f) {
-            this.putter.put(level, pos, Blocks.STONE.defaultBlockState());
+            this.putter.put(pos, Blocks.STONE.defaultBlockState());
         } else if (a > 0.7f) {
-            this.putter.put(level, pos, Blocks.GRASS_BLOCK.defaultBlockState());
+            this.putter.put(pos, Blocks.GRASS_BLOCK.defaultBlockState());
         } else if (a > 0.6f) {
-            this.putter.put(level, pos, this.skyStone);
+            this.putter.put(pos, this.skyStone);
         } else if (a > 0.5f) {
-            this.putter.put(level, pos, Blocks.GRAVEL.defaultBlockState());
+            this.putter.put(pos, Blocks.GRAVEL.defaultBlockState());
         } else {
-            this.putter.put(level, pos, Blocks.AIR.defaultBlockState());
+            this.putter.put(pos, Blocks.AIR.defaultBlockState());
         }
     }
 }
@@ -54,28 +54,28 @@ public FalloutCopy(LevelAccessor level, BlockPos pos, MeteoriteBlockPutter putte
     }
 
     @Override
-    public void getRandomFall(LevelAccessor level, BlockPos pos) {
+    public void getRandomFall(BlockPos pos) {
         var a = random.nextFloat();
         if (a > SPECIFIED_BLOCK_THRESHOLD) {
-            this.putter.put(level, pos, this.block);
+            this.putter.put(pos, this.block);
         } else {
-            this.getOther(level, pos, a);
+            this.getOther(pos, a);
         }
     }
 
-    public void getOther(LevelAccessor level, BlockPos pos, float a) {
+    public void getOther(BlockPos pos, float a) {
 
     }
 
     @Override
-    public void getRandomInset(LevelAccessor level, BlockPos pos) {
+    public void getRandomInset(BlockPos pos) {
         var a = random.nextFloat();
         if (a > SPECIFIED_BLOCK_THRESHOLD) {
-            this.putter.put(level, pos, this.block);
+            this.putter.put(pos, this.block);
         } else if (a > AIR_BLOCK_THRESHOLD) {
-            this.putter.put(level, pos, Blocks.AIR.defaultBlockState());
+            this.putter.put(pos, Blocks.AIR.defaultBlockState());
         } else {
-            this.getOther(level, pos, a - BLOCK_THRESHOLD_STEP);
+            this.getOther(pos, a - BLOCK_THRESHOLD_STEP);
         }
     }
 }
@@ -42,9 +42,9 @@ public int adjustCrater() {
     }
 
     @Override
-    public void getOther(LevelAccessor level, BlockPos pos, float a) {
+    public void getOther(BlockPos pos, float a) {
         if (a > GLASS_THRESHOLD) {
-            this.putter.put(level, pos, Blocks.GLASS.defaultBlockState());
+            this.putter.put(pos, Blocks.GLASS.defaultBlockState());
         }
     }
 }
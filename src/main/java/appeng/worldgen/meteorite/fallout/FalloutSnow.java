@@ -43,11 +43,11 @@ public int adjustCrater() {
     }
 
     @Override
-    public void getOther(LevelAccessor level, BlockPos pos, float a) {
+    public void getOther(BlockPos pos, float a) {
         if (a > SNOW_THRESHOLD) {
-            this.putter.put(level, pos, Blocks.SNOW.defaultBlockState());
+            this.putter.put(pos, Blocks.SNOW.defaultBlockState());
         } else if (a > ICE_THRESHOLD) {
-            this.putter.put(level, pos, Blocks.ICE.defaultBlockState());
+            this.putter.put(pos, Blocks.ICE.defaultBlockState());
         }
     }
 }
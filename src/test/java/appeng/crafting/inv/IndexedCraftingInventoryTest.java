@@ -0,0 +1,158 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2023, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.crafting.inv;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import net.minecraft.world.item.Items;
+
+import appeng.api.config.Actionable;
+import appeng.api.stacks.AEItemKey;
+import appeng.api.stacks.AEKey;
+import appeng.api.stacks.KeyCounter;
+import appeng.util.BootstrapMinecraft;
+
+@BootstrapMinecraft
+class IndexedCraftingInventoryTest {
+    private final AEKey diamond = AEItemKey.of(Items.DIAMOND);
+    private final AEKey stick = AEItemKey.of(Items.STICK);
+    private final AEKey dirt = AEItemKey.of(Items.DIRT);
+    private final List<AEKey> changes = new ArrayList<>();
+    private final IndexedCraftingInventory inv = new IndexedCraftingInventory(changes::add);
+
+    @Test
+    void testIndexedAndOverflowKeys() {
+        inv.index(List.of(diamond, stick));
+
+        inv.insert(diamond, 5, Actionable.MODULATE);
+        inv.insert(dirt, 3, Actionable.MODULATE);
+
+        assertThat(inv.get(diamond)).isEqualTo(5);
+        assertThat(inv.get(stick)).isZero();
+        assertThat(inv.get(dirt)).isEqualTo(3);
+        assertThat(changes).containsExactly(diamond, dirt);
+    }
+
+    @Test
+    void testSimulateDoesNotChangeContent() {
+        inv.index(List.of(diamond));
+
+        inv.insert(diamond, 5, Actionable.SIMULATE);
+        inv.insert(dirt, 5, Actionable.SIMULATE);
+        assertThat(inv.isEmpty()).isTrue();
+
+        inv.insert(diamond, 5, Actionable.MODULATE);
+        inv.insert(dirt, 5, Actionable.MODULATE);
+        changes.clear();
+        assertThat(inv.extract(diamond, 3, Actionable.SIMULATE)).isEqualTo(3);
+        assertThat(inv.extract(dirt, 3, Actionable.SIMULATE)).isEqualTo(3);
+        assertThat(inv.get(diamond)).isEqualTo(5);
+        assertThat(inv.get(dirt)).isEqualTo(5);
+        assertThat(changes).isEmpty();
+    }
+
+    @Test
+    void testExtractIsLimitedByContent() {
+        inv.index(List.of(diamond));
+        inv.insert(diamond, 5, Actionable.MODULATE);
+        inv.insert(dirt, 2, Actionable.MODULATE);
+
+        assertThat(inv.extract(diamond, 10, Actionable.MODULATE)).isEqualTo(5);
+        assertThat(inv.extract(dirt, 10, Actionable.MODULATE)).isEqualTo(2);
+        assertThat(inv.extract(stick, 10, Actionable.MODULATE)).isZero();
+        assertThat(inv.isEmpty()).isTrue();
+    }
+
+    @Test
+    void testReindexKeepsContent() {
+        inv.index(List.of(diamond));
+        inv.insert(diamond, 5, Actionable.MODULATE);
+        inv.insert(dirt, 3, Actionable.MODULATE);
+
+        // dirt moves from the overflow to a slot, diamond from a slot to the overflow
+        inv.index(List.of(dirt, stick));
+
+        assertThat(inv.get(diamond)).isEqualTo(5);
+        assertThat(inv.get(dirt)).isEqualTo(3);
+        var content = new KeyCounter();
+        inv.addTo(content);
+        assertThat(content.size()).isEqualTo(2);
+        assertThat(content.get(diamond)).isEqualTo(5);
+        assertThat(content.get(dirt)).isEqualTo(3);
+    }
+
+    @Test
+    void testDuplicateIndexedKeysShareSlot() {
+        inv.index(List.of(diamond, diamond));
+        inv.insert(diamond, 5, Actionable.MODULATE);
+
+        var content = new KeyCounter();
+        inv.addTo(content);
+        assertThat(content.get(diamond)).isEqualTo(5);
+    }
+
+    @Test
+    void testClearNotifiesChangedKeys() {
+        inv.index(List.of(diamond, stick));
+        inv.insert(diamond, 5, Actionable.MODULATE);
+        inv.insert(dirt, 3, Actionable.MODULATE);
+        changes.clear();
+
+        inv.clear();
+
+        assertThat(inv.isEmpty()).isTrue();
+        assertThat(changes).containsExactlyInAnyOrder(diamond, dirt);
+    }
+
+    @Test
+    void testFuzzyTemplatesOnlyIncludeStoredKeys() {
+        var sword = AEItemKey.of(Items.DIAMOND_SWORD);
+        var damagedStack = Items.DIAMOND_SWORD.getDefaultInstance();
+        damagedStack.setDamageValue(100);
+        var damagedSword = AEItemKey.of(damagedStack);
+
+        inv.index(List.of(sword));
+        assertThat(inv.findFuzzyTemplates(sword)).isEmpty();
+
+        inv.insert(sword, 1, Actionable.MODULATE);
+        inv.insert(damagedSword, 1, Actionable.MODULATE);
+        assertThat(inv.findFuzzyTemplates(sword)).containsExactlyInAnyOrder(sword, damagedSword);
+    }
+
+    @Test
+    void testNbtRoundTrip() {
+        inv.index(List.of(diamond));
+        inv.insert(diamond, 5, Actionable.MODULATE);
+        inv.insert(dirt, 3, Actionable.MODULATE);
+
+        var loaded = new IndexedCraftingInventory(what -> {
+        });
+        loaded.index(List.of(diamond, stick));
+        loaded.readFromNBT(inv.writeToNBT());
+
+        assertThat(loaded.get(diamond)).isEqualTo(5);
+        assertThat(loaded.get(dirt)).isEqualTo(3);
+        assertThat(loaded.get(stick)).isZero();
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2023, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.hooks.ticking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import appeng.util.ILevelRunnable;
+
+class CallableQueueTest {
+    private final CallableQueue queue = new CallableQueue();
+    private final List<String> calls = new ArrayList<>();
+
+    @Test
+    void testPriorityOrderThenFifo() {
+        add("low", CallablePriority.LOW);
+        add("normal1", CallablePriority.NORMAL);
+        add("high", CallablePriority.HIGH);
+        add("normal2", CallablePriority.NORMAL);
+
+        assertThat(queue.peekPriority()).isEqualTo(CallablePriority.HIGH);
+        drain();
+        assertThat(calls).containsExactly("high", "normal1", "normal2", "low");
+        assertThat(queue.isEmpty()).isTrue();
+        assertThat(queue.peekPriority()).isNull();
+    }
+
+    @Test
+    void testPollOfPriority() {
+        add("normal", CallablePriority.NORMAL);
+        add("low", CallablePriority.LOW);
+
+        run(queue.poll(CallablePriority.LOW));
+        assertThat(queue.poll(CallablePriority.HIGH)).isNull();
+        assertThat(calls).containsExactly("low");
+        assertThat(queue.size()).isEqualTo(1);
+        assertThat(queue.size(CallablePriority.LOW)).isZero();
+    }
+
+    @Test
+    void testSameKeyIsOnlyQueuedOnce() {
+        var key = new Object();
+        assertThat(addUnique("first", key)).isTrue();
+        assertThat(addUnique("second", key)).isFalse();
+        assertThat(addUnique("other", new Object())).isTrue();
+
+        drain();
+        assertThat(calls).containsExactly("first", "other");
+    }
+
+    @Test
+    void testKeyCanBeQueuedAgainOnceRun() {
+        var key = new Object();
+        addUnique("first", key);
+        drain();
+
+        assertThat(addUnique("second", key)).isTrue();
+        drain();
+        assertThat(calls).containsExactly("first", "second");
+    }
+
+    @Test
+    void testKeysAreComparedByIdentity() {
+        assertThat(addUnique("first", "key")).isTrue();
+        assertThat(addUnique("second", new String("key"))).isTrue();
+    }
+
+    @Test
+    void testAddAllSkipsPendingKeys() {
+        var key = new Object();
+        addUnique("first", key);
+
+        var other = new CallableQueue();
+        other.add(callback("second"), CallablePriority.LOW, key, 0);
+        other.add(callback("third"), CallablePriority.NORMAL, null, 0);
+        queue.addAll(other);
+
+        assertThat(other.isEmpty()).isTrue();
+        drain();
+        assertThat(calls).containsExactly("first", "third");
+    }
+
+    @Test
+    void testOldestTick() {
+        queue.add(callback("first"), CallablePriority.LOW, null, 5);
+        queue.add(callback("second"), CallablePriority.LOW, null, 7);
+
+        assertThat(queue.getOldestTick(CallablePriority.LOW)).isEqualTo(5);
+        assertThat(queue.getOldestTick(CallablePriority.NORMAL)).isEqualTo(-1);
+    }
+
+    private void add(String name, CallablePriority priority) {
+        queue.add(callback(name), priority, null, 0);
+    }
+
+    private boolean addUnique(String name, Object key) {
+        return queue.add(callback(name), CallablePriority.NORMAL, key, 0);
+    }
+
+    private ILevelRunnable callback(String name) {
+        return level -> calls.add(name);
+    }
+
+    private void drain() {
+        CallableQueue.Entry entry;
+        while ((entry = queue.poll()) != null) {
+            run(entry);
+        }
+    }
+
+    private void run(CallableQueue.Entry entry) {
+        try {
+            entry.callback().call(null);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2023, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.helpers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import net.minecraft.world.item.Items;
+
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+
+import appeng.api.config.FuzzyMode;
+import appeng.api.stacks.AEItemKey;
+import appeng.api.stacks.AEKey;
+import appeng.util.BootstrapMinecraft;
+
+@BootstrapMinecraft
+class StackThresholdsTest {
+    private final AEKey diamond = AEItemKey.of(Items.DIAMOND);
+    private final AEKey stick = AEItemKey.of(Items.STICK);
+    private final Object2LongOpenHashMap<AEKey> amounts = new Object2LongOpenHashMap<>();
+    private final StackThresholds<String> thresholds = new StackThresholds<>(amounts);
+
+    /**
+     * Watchers are on once the total reaches the threshold, so reaching it exactly has to be reported.
+     */
+    @Test
+    void testReachingThresholdIsCrossing() {
+        thresholds.add(diamond, null, 10, "watcher");
+
+        assertThat(watchers(change(diamond, 9))).isEmpty();
+        assertThat(watchers(change(diamond, 10))).containsExactly("watcher");
+    }
+
+    @Test
+    void testDroppingBelowThresholdIsCrossing() {
+        thresholds.add(diamond, null, 10, "watcher");
+        change(diamond, 10);
+
+        assertThat(watchers(change(diamond, 11))).isEmpty();
+        assertThat(watchers(change(diamond, 10))).isEmpty();
+        assertThat(watchers(change(diamond, 9))).containsExactly("watcher");
+    }
+
+    @Test
+    void testOnlyCrossedThresholdsAreReported() {
+        thresholds.add(diamond, null, 5, "five");
+        thresholds.add(diamond, null, 10, "ten");
+        thresholds.add(diamond, null, 20, "twenty");
+
+        assertThat(watchers(change(diamond, 10))).containsExactly("five", "ten");
+        assertThat(watchers(change(diamond, 4))).containsExactly("five", "ten");
+    }
+
+    @Test
+    void testEqualThresholdsAreAllReported() {
+        thresholds.add(diamond, null, 10, "first");
+        thresholds.add(diamond, null, 10, "second");
+
+        assertThat(watchers(change(diamond, 10))).containsExactlyInAnyOrder("first", "second");
+    }
+
+    @Test
+    void testNewThresholdStartsFromCurrentAmounts() {
+        change(diamond, 7);
+        var threshold = thresholds.add(diamond, null, 10, "watcher");
+        assertThat(threshold.getTotal()).isEqualTo(7);
+
+        assertThat(watchers(change(diamond, 10))).containsExactly("watcher");
+    }
+
+    @Test
+    void testAllKeysThresholdCountsEveryKey() {
+        thresholds.add(null, null, 10, "watcher");
+
+        assertThat(watchers(change(diamond, 6))).isEmpty();
+        assertThat(watchers(change(stick, 4))).containsExactly("watcher");
+    }
+
+    @Test
+    void testOtherKeysDoNotAffectThreshold() {
+        thresholds.add(diamond, null, 10, "watcher");
+
+        assertThat(watchers(change(stick, 100))).isEmpty();
+    }
+
+    @Test
+    void testFuzzyThresholdCountsDamagedItems() {
+        var sword = AEItemKey.of(Items.DIAMOND_SWORD);
+        var damagedStack = Items.DIAMOND_SWORD.getDefaultInstance();
+        damagedStack.setDamageValue(100);
+        var damagedSword = AEItemKey.of(damagedStack);
+
+        thresholds.add(sword, FuzzyMode.IGNORE_ALL, 2, "fuzzy");
+        thresholds.add(sword, null, 2, "exact");
+
+        assertThat(watchers(change(sword, 1))).isEmpty();
+        assertThat(watchers(change(damagedSword, 1))).containsExactly("fuzzy");
+    }
+
+    @Test
+    void testRemovedThresholdIsNotReported() {
+        var threshold = thresholds.add(diamond, null, 10, "watcher");
+        thresholds.remove(threshold);
+
+        assertThat(thresholds.isEmpty()).isTrue();
+        assertThat(watchers(change(diamond, 10))).isEmpty();
+    }
+
+    /**
+     * Sets the amount of a key and reports the change, like the owner of the amounts does.
+     */
+    private List<StackThresholds.Threshold<String>> change(AEKey what, long newAmount) {
+        var oldAmount = amounts.getLong(what);
+        amounts.put(what, newAmount);
+        return thresholds.onChange(what, oldAmount, newAmount);
+    }
+
+    private static List<String> watchers(List<StackThresholds.Threshold<String>> crossed) {
+        return crossed.stream().map(StackThresholds.Threshold::getWatcher).toList();
+    }
+}
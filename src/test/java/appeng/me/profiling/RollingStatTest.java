@@ -0,0 +1,79 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2023, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.profiling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class RollingStatTest {
+    private final RollingStat stat = new RollingStat();
+
+    @Test
+    void testEmpty() {
+        assertThat(stat.sum(0, RollingStat.SECONDS)).isZero();
+        assertThat(stat.count(0, RollingStat.SECONDS)).isZero();
+    }
+
+    @Test
+    void testSumsWithinWindow() {
+        stat.record(100, 5);
+        stat.record(100, 7);
+        stat.record(105, 1);
+
+        assertThat(stat.sum(105, 10)).isEqualTo(13);
+        assertThat(stat.count(105, 10)).isEqualTo(3);
+        // Only the current second
+        assertThat(stat.sum(105, 1)).isEqualTo(1);
+        // The window ends at the current second
+        assertThat(stat.sum(104, 10)).isEqualTo(12);
+    }
+
+    @Test
+    void testOldSecondsLeaveTheWindow() {
+        stat.record(100, 5);
+        stat.record(105, 1);
+
+        assertThat(stat.sum(109, 10)).isEqualTo(6);
+        assertThat(stat.sum(110, 10)).isEqualTo(1);
+        assertThat(stat.sum(115, 10)).isZero();
+        assertThat(stat.sum(159, RollingStat.SECONDS)).isEqualTo(6);
+    }
+
+    @Test
+    void testBucketIsResetWhenReused() {
+        stat.record(100, 5);
+        // Maps to the same bucket one full rollover later
+        stat.record(100 + RollingStat.SECONDS, 3);
+
+        assertThat(stat.sum(100 + RollingStat.SECONDS, RollingStat.SECONDS)).isEqualTo(3);
+        assertThat(stat.count(100 + RollingStat.SECONDS, RollingStat.SECONDS)).isEqualTo(1);
+    }
+
+    @Test
+    void testRolloverKeepsRecentSeconds() {
+        for (int second = 0; second < 2 * RollingStat.SECONDS; second++) {
+            stat.record(second, 1);
+        }
+
+        var last = 2 * RollingStat.SECONDS - 1;
+        assertThat(stat.sum(last, RollingStat.SECONDS)).isEqualTo(RollingStat.SECONDS);
+        assertThat(stat.sum(last, 10)).isEqualTo(10);
+    }
+}
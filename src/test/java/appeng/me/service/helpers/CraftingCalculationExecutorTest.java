@@ -0,0 +1,199 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2023, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.service.helpers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.Items;
+
+import appeng.api.networking.IGrid;
+import appeng.api.networking.IGridNode;
+import appeng.api.networking.crafting.CalculationStrategy;
+import appeng.api.networking.crafting.ICraftingPlan;
+import appeng.api.networking.crafting.ICraftingSimulationRequester;
+import appeng.api.networking.security.IActionSource;
+import appeng.api.stacks.AEItemKey;
+import appeng.api.stacks.AEKey;
+import appeng.util.BootstrapMinecraft;
+
+@BootstrapMinecraft
+class CraftingCalculationExecutorTest {
+    private final AEKey diamond = AEItemKey.of(Items.DIAMOND);
+    private final IGrid gridA = mock(IGrid.class);
+    private final IGrid gridB = mock(IGrid.class);
+    private final IGridNode node = mock(IGridNode.class);
+    /**
+     * The turns handed to the pool, which the tests run one by one.
+     */
+    private final Queue<Runnable> poolTasks = new ArrayDeque<>();
+    private final List<String> created = new ArrayList<>();
+    private final CraftingCalculationExecutor executor = new CraftingCalculationExecutor(() -> poolTasks::add,
+            Runnable::run);
+
+    @BeforeEach
+    void setUp() {
+        when(node.getGrid()).thenReturn(gridA);
+    }
+
+    @Test
+    void testGridsTakeTurns() {
+        submit(gridA, null, 1, "a1");
+        submit(gridA, null, 1, "a2");
+        submit(gridA, null, 1, "a3");
+        submit(gridB, null, 1, "b1");
+
+        runPool();
+
+        assertThat(created).containsExactly("a1", "b1", "a2", "a3");
+    }
+
+    @Test
+    void testPlayerRequestsGoFirst() {
+        var player = IActionSource.ofPlayer(mock(Player.class));
+        submit(gridA, machine(), 1, "machine");
+        submit(gridB, null, 1, "other");
+        submit(gridA, player, 1, "player1");
+        submit(gridB, player, 2, "player2");
+
+        runPool();
+
+        assertThat(created).containsExactly("player1", "player2", "machine", "other");
+    }
+
+    @Test
+    void testMachineRequestsForSameOutputAreShared() {
+        var first = submit(gridA, machine(), 1, "first");
+        var second = submit(gridA, machine(), 1, "second");
+        var otherAmount = submit(gridA, machine(), 2, "otherAmount");
+
+        runPool();
+
+        assertThat(created).containsExactly("first", "otherAmount");
+        assertThat(plan(first)).isSameAs(plan(second));
+        assertThat(plan(otherAmount)).isNotSameAs(plan(first));
+    }
+
+    @Test
+    void testRequestsWithoutMachineAreNotShared() {
+        submit(gridA, null, 1, "first");
+        submit(gridA, null, 1, "second");
+
+        runPool();
+
+        assertThat(created).containsExactly("first", "second");
+    }
+
+    @Test
+    void testFinishedCalculationIsNotJoined() {
+        submit(gridA, machine(), 1, "first");
+        runPool();
+        submit(gridA, machine(), 1, "second");
+        runPool();
+
+        assertThat(created).containsExactly("first", "second");
+    }
+
+    @Test
+    void testCalculationRunsUntilLastRequesterCancels() {
+        var first = submit(gridA, machine(), 1, "shared");
+        var second = submit(gridA, machine(), 1, "shared");
+
+        assertThat(first.cancel(true)).isTrue();
+        assertThat(first.isCancelled()).isTrue();
+        assertThrows(CancellationException.class, first::get);
+        assertThat(second.isCancelled()).isFalse();
+
+        runPool();
+
+        assertThat(created).containsExactly("shared");
+        assertThat(plan(second)).isNotNull();
+    }
+
+    @Test
+    void testCancelledCalculationIsNotCreated() {
+        var first = submit(gridA, machine(), 1, "shared");
+        var second = submit(gridA, machine(), 1, "shared");
+
+        first.cancel(true);
+        second.cancel(true);
+        runPool();
+
+        assertThat(created).isEmpty();
+        assertThat(second.isCancelled()).isTrue();
+    }
+
+    @Test
+    void testAbandonedCalculationIsCancelled() {
+        var abandoned = submit(gridA, IActionSource.ofMachine(() -> null), 1, "abandoned");
+        var movedToOtherGrid = submit(gridB, machine(), 1, "movedToOtherGrid");
+        var kept = submit(gridA, machine(), 2, "kept");
+
+        executor.onServerEndTick(0);
+        runPool();
+
+        assertThat(abandoned.isCancelled()).isTrue();
+        assertThat(movedToOtherGrid.isCancelled()).isTrue();
+        assertThat(kept.isCancelled()).isFalse();
+        assertThat(created).containsExactly("kept");
+    }
+
+    private IActionSource machine() {
+        return IActionSource.ofMachine(() -> node);
+    }
+
+    private Future<ICraftingPlan> submit(IGrid grid, IActionSource source, long amount, String name) {
+        ICraftingSimulationRequester requester = () -> source;
+        return executor.submit(grid, requester, diamond, amount, CalculationStrategy.REPORT_MISSING_ITEMS,
+                () -> {
+                    created.add(name);
+                    var plan = mock(ICraftingPlan.class);
+                    return () -> plan;
+                });
+    }
+
+    private void runPool() {
+        Runnable task;
+        while ((task = poolTasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    private static ICraftingPlan plan(Future<ICraftingPlan> future) {
+        assertThat(future.isDone()).isTrue();
+        try {
+            return future.get();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
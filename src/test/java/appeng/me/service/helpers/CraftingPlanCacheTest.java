@@ -0,0 +1,115 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2023, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.service.helpers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+
+import net.minecraft.world.item.Items;
+
+import appeng.api.networking.crafting.ICraftingPlan;
+import appeng.api.stacks.AEItemKey;
+import appeng.api.stacks.AEKey;
+import appeng.api.stacks.GenericStack;
+import appeng.api.stacks.KeyCounter;
+import appeng.util.BootstrapMinecraft;
+
+@BootstrapMinecraft
+class CraftingPlanCacheTest {
+    private final AEKey stick = AEItemKey.of(Items.STICK);
+    private final AEKey planks = AEItemKey.of(Items.OAK_PLANKS);
+    private final KeyCounter networkInventory = new KeyCounter();
+    private final CraftingPlanCache cache = new CraftingPlanCache();
+
+    @Test
+    void testHit() {
+        var plan = plan(4, 2);
+        cache.onCalculated(plan, 1);
+        cache.store(plan, 100);
+        networkInventory.add(planks, 2);
+
+        assertThat(cache.find(stick, 4, 1, 200, networkInventory)).isSameAs(plan);
+        assertThat(cache.find(stick, 8, 1, 200, networkInventory)).isNull();
+    }
+
+    @Test
+    void testMissWhenNetworkLacksUsedItems() {
+        var plan = plan(4, 2);
+        cache.onCalculated(plan, 1);
+        cache.store(plan, 100);
+        networkInventory.add(planks, 1);
+
+        assertThat(cache.find(stick, 4, 1, 200, networkInventory)).isNull();
+    }
+
+    @Test
+    void testMissWhenPatternsChanged() {
+        var plan = plan(4, 2);
+        cache.onCalculated(plan, 1);
+        cache.store(plan, 100);
+        networkInventory.add(planks, 2);
+
+        assertThat(cache.find(stick, 4, 2, 200, networkInventory)).isNull();
+        // The outdated entry is dropped
+        assertThat(cache.find(stick, 4, 1, 200, networkInventory)).isNull();
+    }
+
+    @Test
+    void testExpiry() {
+        var plan = plan(4, 2);
+        cache.onCalculated(plan, 1);
+        cache.store(plan, 100);
+        networkInventory.add(planks, 2);
+
+        assertThat(cache.find(stick, 4, 1, 700, networkInventory)).isSameAs(plan);
+        assertThat(cache.find(stick, 4, 1, 701, networkInventory)).isNull();
+    }
+
+    @Test
+    void testReusedPlansKeepTheirAge() {
+        var plan = plan(4, 2);
+        cache.onCalculated(plan, 1);
+        cache.store(plan, 100);
+        networkInventory.add(planks, 2);
+
+        // Submitting the cached plan again must not refresh it
+        cache.store(cache.find(stick, 4, 1, 600, networkInventory), 600);
+        assertThat(cache.find(stick, 4, 1, 701, networkInventory)).isNull();
+    }
+
+    @Test
+    void testPlansWithoutCalculationAreNotStored() {
+        cache.store(plan(4, 2), 100);
+        networkInventory.add(planks, 2);
+
+        assertThat(cache.find(stick, 4, 1, 200, networkInventory)).isNull();
+    }
+
+    private ICraftingPlan plan(long amount, long usedPlanks) {
+        var usedItems = new KeyCounter();
+        usedItems.add(planks, usedPlanks);
+        var plan = mock(ICraftingPlan.class);
+        when(plan.finalOutput()).thenReturn(new GenericStack(stick, amount));
+        when(plan.usedItems()).thenReturn(usedItems);
+        return plan;
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2023, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.service.helpers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+
+import net.minecraft.world.item.Items;
+
+import appeng.api.config.Actionable;
+import appeng.api.networking.security.IActionSource;
+import appeng.api.stacks.AEItemKey;
+import appeng.api.stacks.AEKey;
+import appeng.api.storage.MEStorage;
+import appeng.util.BootstrapMinecraft;
+
+@BootstrapMinecraft
+class NetworkInsertCapacitiesTest {
+    private final AEKey diamond = AEItemKey.of(Items.DIAMOND);
+    private final AEKey stick = AEItemKey.of(Items.STICK);
+    private final IActionSource source = IActionSource.empty();
+    private final MEStorage storage = mock(MEStorage.class);
+    private final NetworkInsertCapacities capacities = new NetworkInsertCapacities();
+
+    @Test
+    void testExactCapacityIsReused() {
+        givenCapacity(diamond, 10);
+
+        assertThat(capacities.simulateInsert(storage, diamond, 64, source)).isEqualTo(10);
+        assertThat(capacities.simulateInsert(storage, diamond, 64, source)).isEqualTo(10);
+        assertThat(capacities.simulateInsert(storage, diamond, 5, source)).isEqualTo(5);
+        verifySimulations(diamond, 1);
+    }
+
+    @Test
+    void testLowerBoundOnlyAnswersSmallerRequests() {
+        givenCapacity(diamond, 100);
+
+        assertThat(capacities.simulateInsert(storage, diamond, 10, source)).isEqualTo(10);
+        assertThat(capacities.simulateInsert(storage, diamond, 5, source)).isEqualTo(5);
+        verifySimulations(diamond, 1);
+
+        assertThat(capacities.simulateInsert(storage, diamond, 20, source)).isEqualTo(20);
+        verifySimulations(diamond, 2);
+    }
+
+    @Test
+    void testSourcesAreCachedSeparately() {
+        givenCapacity(diamond, 10);
+
+        capacities.simulateInsert(storage, diamond, 64, source);
+        capacities.simulateInsert(storage, diamond, 64, IActionSource.empty());
+        verifySimulations(diamond, 2);
+    }
+
+    @Test
+    void testInsertUsesUpCapacity() {
+        givenCapacity(diamond, 10);
+        givenCapacity(stick, 10);
+        capacities.simulateInsert(storage, diamond, 64, source);
+        capacities.simulateInsert(storage, stick, 64, source);
+
+        capacities.onInserted(diamond, 4);
+
+        assertThat(capacities.simulateInsert(storage, diamond, 64, source)).isEqualTo(6);
+        verifySimulations(diamond, 1);
+        // Other keys may share the storage, so their capacity is simulated again
+        capacities.simulateInsert(storage, stick, 64, source);
+        verifySimulations(stick, 2);
+    }
+
+    @Test
+    void testRejectionsSurviveInserts() {
+        givenCapacity(diamond, 0);
+        capacities.simulateInsert(storage, diamond, 64, source);
+
+        capacities.onInserted(stick, 4);
+
+        assertThat(capacities.simulateInsert(storage, diamond, 64, source)).isZero();
+        verifySimulations(diamond, 1);
+    }
+
+    @Test
+    void testExtractDropsEverything() {
+        givenCapacity(diamond, 0);
+        capacities.simulateInsert(storage, diamond, 64, source);
+
+        capacities.onExtracted(stick, 1);
+
+        capacities.simulateInsert(storage, diamond, 64, source);
+        verifySimulations(diamond, 2);
+    }
+
+    private void givenCapacity(AEKey what, long capacity) {
+        when(storage.insert(eq(what), anyLong(), eq(Actionable.SIMULATE), any()))
+                .thenAnswer(invocation -> Math.min(capacity, invocation.<Long>getArgument(1)));
+    }
+
+    private void verifySimulations(AEKey what, int count) {
+        verify(storage, times(count)).insert(eq(what), anyLong(), eq(Actionable.SIMULATE), any());
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2023, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.recipes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class RecipeIndexTest {
+    /**
+     * Recipes "a" to "e" in recipe manager order. Each recipe is keyed by the keys given for it, and "e" has no keys.
+     */
+    private static final Map<String, List<Integer>> KEYS = Map.of(
+            "a", List.of(1),
+            "b", List.of(2),
+            "c", List.of(1, 2),
+            "d", List.of(2),
+            "e", List.of());
+
+    private final RecipeIndex.Index<String, Integer> index = new RecipeIndex.Index<>(
+            List.of("a", "b", "c", "d", "e"), this::getKeys);
+
+    @Test
+    void testGetIncludesUnkeyedRecipes() {
+        assertThat(index.get(1)).containsExactly("a", "c", "e");
+        assertThat(index.get(3)).containsExactly("e");
+    }
+
+    @Test
+    void testMergeKeepsRecipeManagerOrder() {
+        assertThat(index.merge(List.of("a", "d"), List.of("b", "c"))).containsExactly("a", "b", "c", "d");
+    }
+
+    @Test
+    void testMergeRemovesDuplicates() {
+        assertThat(index.merge(List.of("a", "c", "e"), List.of("b", "c", "d", "e")))
+                .containsExactly("a", "b", "c", "d", "e");
+        assertThat(index.merge(List.of("c"), List.of("c"))).containsExactly("c");
+    }
+
+    @Test
+    void testMergeWithEmptyList() {
+        assertThat(index.merge(List.of(), List.of("b", "d"))).containsExactly("b", "d");
+        assertThat(index.merge(List.of("a", "c"), List.of())).containsExactly("a", "c");
+    }
+
+    @Test
+    void testMergeOfTwoKeys() {
+        assertThat(index.merge(index.get(1), index.get(2))).containsExactly("a", "b", "c", "d", "e");
+    }
+
+    private Collection<Integer> getKeys(String recipe) {
+        return KEYS.get(recipe);
+    }
+}